@@ -20,7 +20,8 @@ class AuthInterceptor @Inject constructor(
 
         // Skip auth for login and register endpoints
         if (originalRequest.url.encodedPath.contains("/auth/login") ||
-            originalRequest.url.encodedPath.contains("/auth/register")) {
+            originalRequest.url.encodedPath.contains("/auth/register") ||
+            originalRequest.url.encodedPath.contains("/auth/refresh")) {
             return chain.proceed(originalRequest)
         }
 
@@ -13,7 +13,7 @@ interface EventoryApi {
     @POST("api/auth/login")
     suspend fun login(@Body request: LoginRequest): Response<AuthResponse>
 
-    @GET("api/auth/me")
+    @GET("api/auth/me?fields=interests")
     suspend fun getCurrentUser(): Response<User>
 
     @PUT("api/auth/interests")
@@ -28,6 +28,15 @@ interface EventoryApi {
         @Query("category") category: String? = null
     ): Response<List<Event>>
 
+    @GET("api/events/search")
+    suspend fun searchEvents(
+        @Query("q") query: String,
+        @Query("category") category: String? = null,
+        @Query("lat") lat: Double? = null,
+        @Query("lng") lng: Double? = null,
+        @Query("radius") radius: Double? = null
+    ): Response<List<Event>>
+
     @GET("api/events/{id}")
     suspend fun getEvent(@Path("id") eventId: String): Response<Event>
 
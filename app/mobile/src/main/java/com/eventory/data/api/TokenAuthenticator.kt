@@ -0,0 +1,79 @@
+package com.eventory.data.api
+
+import com.eventory.data.local.TokenManager
+import com.eventory.data.model.AuthResponse
+import com.eventory.data.model.RefreshTokenRequest
+import com.google.gson.Gson
+import kotlinx.coroutines.runBlocking
+import okhttp3.Authenticator
+import okhttp3.MediaType.Companion.toMediaType
+import okhttp3.OkHttpClient
+import okhttp3.Request
+import okhttp3.RequestBody.Companion.toRequestBody
+import okhttp3.Response
+import okhttp3.Route
+import java.io.IOException
+
+/**
+ * Exchanges the stored refresh token for a new token pair when the backend answers 401,
+ * then retries the original request once.
+ */
+class TokenAuthenticator(
+    private val tokenManager: TokenManager,
+    private val refreshUrl: String
+) : Authenticator {
+
+    private val gson = Gson()
+    private val client = OkHttpClient()
+
+    override fun authenticate(route: Route?, response: Response): Request? {
+        // Already retried once with a refreshed token
+        if (response.priorResponse != null) {
+            return null
+        }
+
+        synchronized(this) {
+            val failedToken = response.request.header("Authorization")?.removePrefix("Bearer ")
+            val currentToken = runBlocking { tokenManager.getToken() }
+
+            // Another request refreshed while this one was waiting
+            if (currentToken != null && currentToken != failedToken) {
+                return retryWith(response.request, currentToken)
+            }
+
+            val refreshToken = runBlocking { tokenManager.getRefreshToken() } ?: return null
+            val refreshed = try {
+                refresh(refreshToken)
+            } catch (e: IOException) {
+                // Keep the session; the refresh can be retried once the network is back
+                return null
+            }
+            if (refreshed == null) {
+                runBlocking { tokenManager.clearAll() }
+                return null
+            }
+
+            runBlocking { tokenManager.saveTokens(refreshed.token, refreshed.refreshToken) }
+            return retryWith(response.request, refreshed.token)
+        }
+    }
+
+    private fun refresh(refreshToken: String): AuthResponse? {
+        val body = gson.toJson(RefreshTokenRequest(refreshToken))
+            .toRequestBody("application/json".toMediaType())
+        val request = Request.Builder().url(refreshUrl).post(body).build()
+        return client.newCall(request).execute().use { response ->
+            if (response.isSuccessful) {
+                response.body?.string()?.let { gson.fromJson(it, AuthResponse::class.java) }
+            } else {
+                null
+            }
+        }
+    }
+
+    private fun retryWith(request: Request, token: String): Request {
+        return request.newBuilder()
+            .header("Authorization", "Bearer $token")
+            .build()
+    }
+}
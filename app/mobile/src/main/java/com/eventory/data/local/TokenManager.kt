@@ -26,6 +26,7 @@ class TokenManager @Inject constructor(
 
     companion object {
         private val TOKEN_KEY = stringPreferencesKey("jwt_token")
+        private val REFRESH_TOKEN_KEY = stringPreferencesKey("refresh_token")
         private val USER_KEY = stringPreferencesKey("current_user")
         private val ONBOARDING_COMPLETE_KEY = booleanPreferencesKey("onboarding_complete")
         private val INTERESTS_KEY = stringPreferencesKey("user_interests")
@@ -50,9 +51,23 @@ class TokenManager @Inject constructor(
     suspend fun clearToken() {
         context.dataStore.edit { preferences ->
             preferences.remove(TOKEN_KEY)
+            preferences.remove(REFRESH_TOKEN_KEY)
         }
     }
 
+    suspend fun saveTokens(token: String, refreshToken: String?) {
+        context.dataStore.edit { preferences ->
+            preferences[TOKEN_KEY] = token
+            if (refreshToken != null) {
+                preferences[REFRESH_TOKEN_KEY] = refreshToken
+            }
+        }
+    }
+
+    suspend fun getRefreshToken(): String? {
+        return context.dataStore.data.first()[REFRESH_TOKEN_KEY]
+    }
+
     suspend fun saveUser(user: User) {
         context.dataStore.edit { preferences ->
             preferences[USER_KEY] = gson.toJson(user)
@@ -60,9 +60,15 @@ data class RegisterRequest(
 
 data class AuthResponse(
     val token: String,
+    val refreshToken: String? = null,
+    val expiresIn: Long? = null,
     val user: User
 )
 
+data class RefreshTokenRequest(
+    val refreshToken: String
+)
+
 // Event DTOs
 data class CreateEventRequest(
     val title: String,
@@ -20,7 +20,7 @@ class AuthRepository @Inject constructor(
             val response = api.register(RegisterRequest(name, email, password, role, interests))
             if (response.isSuccessful && response.body() != null) {
                 val authResponse = response.body()!!
-                tokenManager.saveToken(authResponse.token)
+                tokenManager.saveTokens(authResponse.token, authResponse.refreshToken)
                 tokenManager.saveUser(authResponse.user)
                 Result.success(authResponse)
             } else {
@@ -36,7 +36,7 @@ class AuthRepository @Inject constructor(
             val response = api.login(LoginRequest(email, password))
             if (response.isSuccessful && response.body() != null) {
                 val authResponse = response.body()!!
-                tokenManager.saveToken(authResponse.token)
+                tokenManager.saveTokens(authResponse.token, authResponse.refreshToken)
                 tokenManager.saveUser(authResponse.user)
                 Result.success(authResponse)
             } else {
@@ -30,6 +30,25 @@ class EventRepository @Inject constructor(
         }
     }
 
+    suspend fun searchEvents(
+        query: String,
+        category: String? = null,
+        lat: Double? = null,
+        lng: Double? = null,
+        radius: Double? = null
+    ): Result<List<Event>> {
+        return try {
+            val response = api.searchEvents(query, category, lat, lng, radius)
+            if (response.isSuccessful && response.body() != null) {
+                Result.success(response.body()!!)
+            } else {
+                Result.failure(Exception("Failed to search events"))
+            }
+        } catch (e: Exception) {
+            Result.failure(e)
+        }
+    }
+
     suspend fun getEvent(eventId: String): Result<Event> {
         return try {
             val response = api.getEvent(eventId)
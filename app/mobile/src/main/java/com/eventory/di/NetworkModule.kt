@@ -3,6 +3,7 @@ package com.eventory.di
 import android.content.Context
 import com.eventory.data.api.AuthInterceptor
 import com.eventory.data.api.EventoryApi
+import com.eventory.data.api.TokenAuthenticator
 import com.eventory.data.local.TokenManager
 import dagger.Module
 import dagger.Provides
@@ -38,7 +39,16 @@ object NetworkModule {
 
     @Provides
     @Singleton
-    fun provideOkHttpClient(authInterceptor: AuthInterceptor): OkHttpClient {
+    fun provideTokenAuthenticator(tokenManager: TokenManager): TokenAuthenticator {
+        return TokenAuthenticator(tokenManager, "${BASE_URL}api/auth/refresh")
+    }
+
+    @Provides
+    @Singleton
+    fun provideOkHttpClient(
+        authInterceptor: AuthInterceptor,
+        tokenAuthenticator: TokenAuthenticator
+    ): OkHttpClient {
         val loggingInterceptor = HttpLoggingInterceptor().apply {
             level = HttpLoggingInterceptor.Level.BODY
         }
@@ -46,6 +56,7 @@ object NetworkModule {
         return OkHttpClient.Builder()
             .addInterceptor(authInterceptor)
             .addInterceptor(loggingInterceptor)
+            .authenticator(tokenAuthenticator)
             .connectTimeout(30, TimeUnit.SECONDS)
             .readTimeout(30, TimeUnit.SECONDS)
             .writeTimeout(30, TimeUnit.SECONDS)
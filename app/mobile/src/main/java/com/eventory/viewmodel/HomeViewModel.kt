@@ -5,6 +5,8 @@ import androidx.lifecycle.viewModelScope
 import com.eventory.data.model.Event
 import com.eventory.data.repository.EventRepository
 import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.StateFlow
 import kotlinx.coroutines.flow.asStateFlow
@@ -29,6 +31,8 @@ class HomeViewModel @Inject constructor(
     private val _state = MutableStateFlow(HomeState())
     val state: StateFlow<HomeState> = _state.asStateFlow()
 
+    private var searchJob: Job? = null
+
     init {
         loadEvents()
     }
@@ -63,16 +67,26 @@ class HomeViewModel @Inject constructor(
     }
 
     fun searchEvents(query: String) {
-        val events = _state.value.events
+        searchJob?.cancel()
         if (query.isBlank()) {
-            _state.value = _state.value.copy(filteredEvents = events)
-        } else {
-            val filtered = events.filter { event ->
-                event.title.contains(query, ignoreCase = true) ||
-                event.description?.contains(query, ignoreCase = true) == true ||
-                event.category.contains(query, ignoreCase = true)
-            }
-            _state.value = _state.value.copy(filteredEvents = filtered)
+            _state.value = _state.value.copy(filteredEvents = _state.value.events)
+            return
+        }
+        searchJob = viewModelScope.launch {
+            // Wait for typing to pause before asking the server
+            delay(SEARCH_DEBOUNCE_MS)
+            val current = _state.value
+            val result = eventRepository.searchEvents(
+                query, current.selectedCategory, current.userLatitude, current.userLongitude
+            )
+            result.fold(
+                onSuccess = { events ->
+                    _state.value = _state.value.copy(filteredEvents = events)
+                },
+                onFailure = { e ->
+                    _state.value = _state.value.copy(error = e.message)
+                }
+            )
         }
     }
 
@@ -88,4 +102,8 @@ class HomeViewModel @Inject constructor(
     fun clearError() {
         _state.value = _state.value.copy(error = null)
     }
+
+    companion object {
+        private const val SEARCH_DEBOUNCE_MS = 250L
+    }
 }
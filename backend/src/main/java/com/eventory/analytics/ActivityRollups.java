@@ -0,0 +1,214 @@
+package com.eventory.analytics;
+
+import com.eventory.model.EventActivity;
+import com.eventory.model.EventActivity.Resolution;
+import com.eventory.repository.EventActivityRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * RSVP, cancellation and check-in counts of every event over time, kept as rollups so an
+ * event's curve is read from a bounded number of buckets however many people attend.
+ *
+ * <p>Activity is counted in memory per event and minute and added to the minute buckets of
+ * {@code event_activity} on a short schedule, so a burst of RSVPs to one event costs one write
+ * per minute rather than contending for the same row. As buckets age they are compacted: minute
+ * buckets into hours after {@code minute-retention}, hour buckets into days after
+ * {@code hour-retention}. Each stretch of time is therefore covered by exactly one resolution.
+ *
+ * <p>Buckets are added to with {@code INSERT ... ON CONFLICT} when Hibernate's dialect is
+ * PostgreSQL and with {@code MERGE} otherwise, as on H2, which lacks it.
+ */
+@Component
+public class ActivityRollups {
+
+    public enum Activity {
+        RSVP, CANCELLATION, CHECK_IN
+    }
+
+    private final EventActivityRepository activityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minuteRetention;
+    private final Duration hourRetention;
+    private final boolean onConflict;
+    private final Clock clock;
+    private final Map<Bucket, Counts> pending = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ActivityRollups(EventActivityRepository activityRepository, PlatformTransactionManager transactionManager,
+                           @Value("${eventory.analytics.minute-retention:1h}") Duration minuteRetention,
+                           @Value("${eventory.analytics.hour-retention:2d}") Duration hourRetention,
+                           EntityManagerFactory entityManagerFactory) {
+        this(activityRepository, transactionManager, minuteRetention, hourRetention,
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect()
+                        instanceof PostgreSQLDialect,
+                Clock.systemDefaultZone());
+    }
+
+    ActivityRollups(EventActivityRepository activityRepository, PlatformTransactionManager transactionManager,
+                    Duration minuteRetention, Duration hourRetention, boolean onConflict, Clock clock) {
+        this.activityRepository = activityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minuteRetention = minuteRetention;
+        this.hourRetention = hourRetention;
+        this.onConflict = onConflict;
+        this.clock = clock;
+    }
+
+    public void record(UUID eventId, Activity activity, LocalDateTime at) {
+        pending.merge(new Bucket(eventId, at.truncatedTo(ChronoUnit.MINUTES)), Counts.of(activity), Counts::plus);
+    }
+
+    /** The event's buckets, oldest first, including activity not yet flushed. */
+    public List<EventActivity> series(UUID eventId) {
+        List<EventActivity> series = new ArrayList<>(activityRepository.findByEventIdOrderByBucketStart(eventId));
+        Map<LocalDateTime, Integer> minutes = new HashMap<>();
+        for (int i = 0; i < series.size(); i++) {
+            if (series.get(i).getResolution() == Resolution.MINUTE) {
+                minutes.put(series.get(i).getBucketStart(), i);
+            }
+        }
+        pending.forEach((bucket, counts) -> {
+            if (!bucket.eventId().equals(eventId)) {
+                return;
+            }
+            Integer at = minutes.get(bucket.start());
+            if (at != null) {
+                // A new bucket rather than the loaded one, which must not be changed
+                EventActivity flushed = series.get(at);
+                counts = counts.plus(new Counts(flushed.getRsvps(), flushed.getCancellations(), flushed.getCheckIns()));
+            }
+            EventActivity minute = new EventActivity(eventId, Resolution.MINUTE, bucket.start(),
+                    counts.rsvps(), counts.cancellations(), counts.checkIns());
+            if (at != null) {
+                series.set(at, minute);
+            } else {
+                series.add(minute);
+            }
+        });
+        series.sort(Comparator.comparing(EventActivity::getBucketStart));
+        return series;
+    }
+
+    @Scheduled(fixedDelayString = "${eventory.analytics.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Bucket, Counts> drained = drain(bucket -> true);
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> drained.forEach((bucket, counts) ->
+                    add(bucket.eventId(), Resolution.MINUTE, bucket.start(), counts)));
+        } catch (RuntimeException e) {
+            // Nothing was written; try again next time, e.g. once the database is reachable again
+            drained.forEach((bucket, counts) -> pending.merge(bucket, counts, Counts::plus));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventory.analytics.compact-interval-ms:300000}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime minuteCutoff = now.truncatedTo(ChronoUnit.HOURS).minus(minuteRetention);
+        // Unflushed counts of compacted minutes go straight into their hour, never into a minute bucket
+        Map<Bucket, Counts> unflushed = drain(bucket -> bucket.start().isBefore(minuteCutoff));
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                rollUp(Resolution.MINUTE, Resolution.HOUR, minuteCutoff, unflushed);
+                rollUp(Resolution.HOUR, Resolution.DAY, now.truncatedTo(ChronoUnit.DAYS).minus(hourRetention), Map.of());
+            });
+        } catch (RuntimeException e) {
+            unflushed.forEach((bucket, counts) -> pending.merge(bucket, counts, Counts::plus));
+            throw e;
+        }
+    }
+
+    private Map<Bucket, Counts> drain(Predicate<Bucket> filter) {
+        Map<Bucket, Counts> drained = new HashMap<>();
+        for (Bucket bucket : pending.keySet()) {
+            Counts counts = filter.test(bucket) ? pending.remove(bucket) : null;
+            if (counts != null) {
+                drained.put(bucket, counts);
+            }
+        }
+        return drained;
+    }
+
+    /**
+     * Adds the aged buckets into their coarser ones and deletes them. The buckets stay locked from
+     * reading to deleting, so a flush on another thread or instance waits rather than adding to one
+     * about to go, and only the buckets read are deleted, never one written meanwhile. The
+     * {@code unflushed} counts are added along with them.
+     */
+    private void rollUp(Resolution from, Resolution to, LocalDateTime cutoff, Map<Bucket, Counts> unflushed) {
+        List<EventActivity> aged = activityRepository.findByResolutionAndBucketStartBefore(from, cutoff);
+        Map<Bucket, Counts> sums = new HashMap<>();
+        unflushed.forEach((bucket, counts) ->
+                sums.merge(new Bucket(bucket.eventId(), truncate(bucket.start(), to)), counts, Counts::plus));
+        for (EventActivity bucket : aged) {
+            sums.merge(new Bucket(bucket.getEventId(), truncate(bucket.getBucketStart(), to)),
+                    new Counts(bucket.getRsvps(), bucket.getCancellations(), bucket.getCheckIns()), Counts::plus);
+        }
+        if (sums.isEmpty()) {
+            return;
+        }
+        sums.forEach((bucket, counts) -> add(bucket.eventId(), to, bucket.start(), counts));
+        activityRepository.deleteAll(aged);
+    }
+
+    private void add(UUID eventId, Resolution resolution, LocalDateTime start, Counts counts) {
+        if (onConflict) {
+            activityRepository.upsert(eventId, resolution.name(), start,
+                    counts.rsvps(), counts.cancellations(), counts.checkIns());
+        } else {
+            activityRepository.merge(eventId, resolution.name(), start,
+                    counts.rsvps(), counts.cancellations(), counts.checkIns());
+        }
+    }
+
+    private static LocalDateTime truncate(LocalDateTime time, Resolution resolution) {
+        return switch (resolution) {
+            case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+
+    private record Bucket(UUID eventId, LocalDateTime start) {
+    }
+
+    /** Replaced rather than mutated, so a flush never takes a count that is still being added to. */
+    private record Counts(int rsvps, int cancellations, int checkIns) {
+
+        static Counts of(Activity activity) {
+            return switch (activity) {
+                case RSVP -> new Counts(1, 0, 0);
+                case CANCELLATION -> new Counts(0, 1, 0);
+                case CHECK_IN -> new Counts(0, 0, 1);
+            };
+        }
+
+        Counts plus(Counts other) {
+            return new Counts(rsvps + other.rsvps, cancellations + other.cancellations, checkIns + other.checkIns);
+        }
+    }
+}
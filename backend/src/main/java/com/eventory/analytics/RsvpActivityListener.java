@@ -0,0 +1,61 @@
+package com.eventory.analytics;
+
+import com.eventory.analytics.ActivityRollups.Activity;
+import com.eventory.model.Rsvp;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Counts every new, cancelled and checked-in {@link Rsvp} in the {@link ActivityRollups} once
+ * the transaction commits. Only the instance that made the change counts it.
+ */
+@Component
+public class RsvpActivityListener {
+
+    // Looked up on use: the rollups need a repository, which needs the entity manager factory this listener is built into
+    private final ObjectProvider<ActivityRollups> rollups;
+
+    public RsvpActivityListener(ObjectProvider<ActivityRollups> rollups) {
+        this.rollups = rollups;
+    }
+
+    @PostPersist
+    public void onRsvpCreated(Rsvp rsvp) {
+        recordAfterCommit(rsvp, Activity.RSVP, rsvp.getCreatedAt());
+    }
+
+    @PostUpdate
+    public void onRsvpUpdated(Rsvp rsvp) {
+        // Checking in is the only change an RSVP gets once made
+        if (Boolean.TRUE.equals(rsvp.getCheckedIn()) && rsvp.getCheckedInAt() != null) {
+            recordAfterCommit(rsvp, Activity.CHECK_IN, rsvp.getCheckedInAt());
+        }
+    }
+
+    @PostRemove
+    public void onRsvpRemoved(Rsvp rsvp) {
+        recordAfterCommit(rsvp, Activity.CANCELLATION, LocalDateTime.now());
+    }
+
+    private void recordAfterCommit(Rsvp rsvp, Activity activity, LocalDateTime at) {
+        UUID eventId = rsvp.getEvent().getId();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    rollups.getObject().record(eventId, activity, at);
+                }
+            });
+        } else {
+            rollups.getObject().record(eventId, activity, at);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.eventory.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Fans cache invalidations out to every node. Subscribers on the publishing node are
+ * notified too, so callers should invalidate through the bus rather than locally.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(String cacheName, String key);
+
+    void subscribe(String cacheName, Consumer<String> listener);
+}
@@ -0,0 +1,12 @@
+package com.eventory.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CacheStats(long hits, long misses, long evictions, long expirations, int size, int maxSize) {
+
+    @JsonProperty
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
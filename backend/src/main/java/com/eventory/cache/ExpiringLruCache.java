@@ -0,0 +1,98 @@
+package com.eventory.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Size-bounded LRU map whose entries each carry their own expiry instant.
+ * Expired entries are dropped lazily when they are next read.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    public ExpiringLruCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxSize, Clock clock) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.maxSize = maxSize;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public V get(K key) {
+        long now = clock.millis();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (entry.expiresAtMillis <= now) {
+                entries.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+    }
+
+    /** Stores {@code value} until {@code expiresAtMillis}; values that are already expired are not cached. */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= clock.millis()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAtMillis));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size(), maxSize);
+    }
+
+    private record Entry<V>(V value, long expiresAtMillis) {
+    }
+}
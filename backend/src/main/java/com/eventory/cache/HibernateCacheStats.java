@@ -0,0 +1,53 @@
+package com.eventory.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads the second-level and query cache counters Hibernate keeps when
+ * {@code hibernate.generate_statistics} is on.
+ */
+@Component
+public class HibernateCacheStats {
+
+    private final Statistics statistics;
+
+    public HibernateCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public Report report() {
+        Map<String, RegionStats> regions = new LinkedHashMap<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(region -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics != null) {
+                regions.put(region, new RegionStats(
+                        regionStatistics.getHitCount(),
+                        regionStatistics.getMissCount(),
+                        regionStatistics.getPutCount()));
+            }
+        });
+        return new Report(
+                statistics.isStatisticsEnabled(),
+                regions,
+                new RegionStats(
+                        statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()),
+                statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * @param statementsExecuted JDBC statements actually sent to the database since startup
+     */
+    public record Report(boolean enabled, Map<String, RegionStats> regions, RegionStats queries,
+                         long statementsExecuted) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.eventory.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Delivers invalidations synchronously to subscribers in this JVM only. Suitable for a
+ * single node and for tests; multi-node deployments should provide their own bus bean.
+ */
+public class InProcessCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String cacheName, String key) {
+        listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.accept(key));
+    }
+
+    @Override
+    public void subscribe(String cacheName, Consumer<String> listener) {
+        listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
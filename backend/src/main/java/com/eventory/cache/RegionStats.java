@@ -0,0 +1,13 @@
+package com.eventory.cache;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Counters for one Hibernate second-level or query cache region; each hit is a database round trip avoided. */
+public record RegionStats(long hits, long misses, long puts) {
+
+    @JsonProperty
+    public double hitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,82 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.RsvpRepository.EventRsvpCount;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RSVP count of every event in the {@link EventCatalog}, so rankings need not count rows per
+ * request. The counts are read once when the application is ready and from then on moved by one
+ * for each RSVP and cancellation that {@link RsvpChangeListener} announces; an event's count is
+ * dropped when it leaves the catalog.
+ */
+@Component
+public class AttendeeCounts implements EventCatalog.Listener {
+
+    public static final String ADDED_CHANNEL = "attendeeAdded";
+    public static final String REMOVED_CHANNEL = "attendeeRemoved";
+
+    /** Notified of each event's new count as it is loaded or changes. */
+    public interface Listener {
+        void onCountChanged(UUID eventId, long count);
+    }
+
+    private final RsvpRepository rsvpRepository;
+    private final EventCatalog catalog;
+    private final Map<UUID, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public AttendeeCounts(RsvpRepository rsvpRepository, EventCatalog catalog, CacheInvalidationBus invalidationBus) {
+        this.rsvpRepository = rsvpRepository;
+        this.catalog = catalog;
+        catalog.addListener(this);
+        invalidationBus.subscribe(ADDED_CHANNEL, message -> adjust(UUID.fromString(message), 1));
+        invalidationBus.subscribe(REMOVED_CHANNEL, message -> adjust(UUID.fromString(message), -1));
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public long get(UUID eventId) {
+        AtomicLong count = counts.get(eventId);
+        return count == null ? 0 : count.get();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (EventRsvpCount count : rsvpRepository.countUpcomingByEvent(LocalDateTime.now())) {
+            add(count.getEventId(), count.getCount());
+        }
+    }
+
+    @Override
+    public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+        if (current == null) {
+            counts.remove(previous.id());
+        }
+    }
+
+    private void adjust(UUID eventId, long delta) {
+        // Events outside the catalog have started or gone, and nothing ranks them any more
+        if (catalog.get(eventId) != null) {
+            add(eventId, delta);
+        }
+    }
+
+    private void add(UUID eventId, long delta) {
+        long count = counts.computeIfAbsent(eventId, id -> new AtomicLong()).addAndGet(delta);
+        listeners.forEach(listener -> listener.onCountChanged(eventId, count));
+    }
+}
@@ -0,0 +1,17 @@
+package com.eventory.catalog;
+
+import com.eventory.model.Event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** The fields of an event that in-memory indexes work from. */
+public record CatalogEntry(UUID id, String title, String description, String venueName, String category,
+                           double latitude, double longitude, LocalDateTime startTime, LocalDateTime endTime) {
+
+    public static CatalogEntry fromEvent(Event event) {
+        return new CatalogEntry(event.getId(), event.getTitle(), event.getDescription(), event.getVenueName(),
+                event.getCategory(), event.getLatitude(), event.getLongitude(), event.getStartTime(),
+                event.getEndTime());
+    }
+}
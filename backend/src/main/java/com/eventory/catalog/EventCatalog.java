@@ -0,0 +1,129 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-memory copy of every upcoming event, the source for the search and feed indexes. It is
+ * loaded once the application is ready and then kept current through the
+ * {@link CacheInvalidationBus}: each changed event is re-read by id, deleted ones are dropped,
+ * and events that have started are purged on a schedule. Listeners see every change, in order, as {@code (previous, current)},
+ * and are told separately of each event that has started.
+ */
+@Component
+public class EventCatalog {
+
+    public static final String CHANNEL = "events";
+    public static final String REMOVED_CHANNEL = "eventsRemoved";
+
+    /** Notified of each change; {@code previous} is null for a new entry, {@code current} null for a removed one. */
+    public interface Listener {
+        void onEventChanged(CatalogEntry previous, CatalogEntry current);
+
+        /** Notified, after any removal, of an event that has started: purged, or found started when it changed. */
+        default void onEventStarted(CatalogEntry entry) {
+        }
+    }
+
+    private final EventRepository eventRepository;
+    private final Clock clock;
+    private final Map<UUID, CatalogEntry> entries = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public EventCatalog(EventRepository eventRepository, CacheInvalidationBus invalidationBus) {
+        this(eventRepository, invalidationBus, Clock.systemDefaultZone());
+    }
+
+    EventCatalog(EventRepository eventRepository, CacheInvalidationBus invalidationBus, Clock clock) {
+        this.eventRepository = eventRepository;
+        this.clock = clock;
+        invalidationBus.subscribe(CHANNEL, this::onEventChanged);
+        invalidationBus.subscribe(REMOVED_CHANNEL, message -> remove(UUID.fromString(message)));
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public CatalogEntry get(UUID eventId) {
+        return entries.get(eventId);
+    }
+
+    public Collection<CatalogEntry> entries() {
+        return Collections.unmodifiableCollection(entries.values());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (CatalogEntry entry : eventRepository.findCatalogEntries(LocalDateTime.now(clock))) {
+            putIfAbsent(entry);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventory.catalog.purge-interval-ms:60000}")
+    public void purgeStarted() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        entries.values().stream()
+                .filter(entry -> entry.startTime().isBefore(now))
+                .toList()
+                .forEach(this::started);
+    }
+
+    private void onEventChanged(String message) {
+        UUID eventId = UUID.fromString(message);
+        LocalDateTime now = LocalDateTime.now(clock);
+        eventRepository.findById(eventId)
+                .map(CatalogEntry::fromEvent)
+                .ifPresentOrElse(entry -> {
+                    if (entry.startTime().isBefore(now)) {
+                        started(entry);
+                    } else {
+                        put(entry);
+                    }
+                }, () -> remove(eventId));
+    }
+
+    private synchronized void put(CatalogEntry entry) {
+        CatalogEntry previous = entries.put(entry.id(), entry);
+        listeners.forEach(listener -> listener.onEventChanged(previous, entry));
+    }
+
+    /** For the initial load: anything already announced over the bus meanwhile is at least as fresh. */
+    private synchronized void putIfAbsent(CatalogEntry entry) {
+        if (!entries.containsKey(entry.id())) {
+            put(entry);
+        }
+    }
+
+    private synchronized void started(CatalogEntry entry) {
+        remove(entry.id());
+        listeners.forEach(listener -> listener.onEventStarted(entry));
+    }
+
+    private synchronized void remove(UUID eventId) {
+        CatalogEntry previous = entries.remove(eventId);
+        if (previous != null) {
+            listeners.forEach(listener -> listener.onEventChanged(previous, null));
+        }
+    }
+}
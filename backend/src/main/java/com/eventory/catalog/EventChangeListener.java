@@ -0,0 +1,48 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.model.Event;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Announces every written {@link Event} once its transaction commits: saved events on
+ * {@link EventCatalog#CHANNEL}, so each node's catalog re-reads them, and deleted ones on
+ * {@link EventCatalog#REMOVED_CHANNEL}, which need no read.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventChangeListener {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    @PostPersist
+    @PostUpdate
+    public void onEventSaved(Event event) {
+        publishAfterCommit(EventCatalog.CHANNEL, event);
+    }
+
+    @PostRemove
+    public void onEventRemoved(Event event) {
+        publishAfterCommit(EventCatalog.REMOVED_CHANNEL, event);
+    }
+
+    private void publishAfterCommit(String channel, Event event) {
+        String id = event.getId().toString();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationBus.publish(channel, id);
+                }
+            });
+        } else {
+            invalidationBus.publish(channel, id);
+        }
+    }
+}
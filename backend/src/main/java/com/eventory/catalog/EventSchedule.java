@@ -0,0 +1,198 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Start and end of every event that has not yet ended, including those under way that the
+ * {@link EventCatalog} has already dropped, for finding the events that overlap a time window.
+ *
+ * <p>Intervals are grouped by duration into power-of-two classes, each sorted by start. In a
+ * class whose durations are all below {@code 2^k} seconds, an event overlapping {@code [from, to]}
+ * must start within {@code [from - 2^k, to]}; the events in that range that fail the overlap
+ * check lasted at least {@code 2^(k-1)} and started more than that before {@code from}, so the
+ * range holds few more than the matches and a query never scans the schedule.
+ */
+@Component
+public class EventSchedule implements EventCatalog.Listener {
+
+    /** Duration classes: up to {@code 2^40} seconds, far beyond any event. */
+    private static final int CLASSES = 41;
+    private static final UUID LOWEST_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+    private static final UUID HIGHEST_ID = new UUID(Long.MAX_VALUE, Long.MAX_VALUE);
+    private static final Comparator<Interval> BY_START = Comparator.comparingLong(Interval::start)
+            .thenComparing(Interval::eventId);
+
+    private final EventRepository eventRepository;
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Interval> intervals = new HashMap<>();
+    private final List<NavigableSet<Interval>> byDuration = new ArrayList<>(CLASSES);
+
+    private record Interval(UUID eventId, String category, long start, long end) {
+
+        int durationClass() {
+            return Math.min(CLASSES - 1, 64 - Long.numberOfLeadingZeros(Math.max(0, end - start)));
+        }
+    }
+
+    @Autowired
+    public EventSchedule(EventRepository eventRepository, EventCatalog catalog, CacheInvalidationBus invalidationBus) {
+        this(eventRepository, catalog, invalidationBus, Clock.systemDefaultZone());
+    }
+
+    EventSchedule(EventRepository eventRepository, EventCatalog catalog, CacheInvalidationBus invalidationBus,
+                  Clock clock) {
+        this.eventRepository = eventRepository;
+        this.clock = clock;
+        for (int i = 0; i < CLASSES; i++) {
+            byDuration.add(new TreeSet<>(BY_START));
+        }
+        catalog.addListener(this);
+        // The catalog no longer holds events under way, so their deletion only shows here
+        invalidationBus.subscribe(EventCatalog.REMOVED_CHANNEL, message -> remove(UUID.fromString(message)));
+    }
+
+    @Override
+    public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+        if (current != null) {
+            put(current, true);
+        } else {
+            remove(previous.id());
+        }
+    }
+
+    @Override
+    public void onEventStarted(CatalogEntry entry) {
+        if (entry.endTime().isAfter(LocalDateTime.now(clock))) {
+            put(entry, true);
+        } else {
+            remove(entry.id());
+        }
+    }
+
+    /** Events that have not ended, read once the application is ready; newer changes win. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        for (CatalogEntry entry : eventRepository.findUnfinishedEntries(LocalDateTime.now(clock))) {
+            put(entry, false);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${eventory.catalog.purge-interval-ms:60000}")
+    public void purgeEnded() {
+        long now = epochSeconds(LocalDateTime.now(clock));
+        lock.writeLock().lock();
+        try {
+            intervals.values().stream()
+                    .filter(interval -> interval.end() <= now)
+                    .toList()
+                    .forEach(this::unlink);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the events under way at some point in {@code [from, to]}, in {@code category} when
+     * given, by start time.
+     */
+    public List<UUID> overlapping(LocalDateTime from, LocalDateTime to, String category) {
+        long fromSeconds = epochSeconds(from);
+        long toSeconds = epochSeconds(to);
+        List<Interval> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int k = 0; k < CLASSES; k++) {
+                NavigableSet<Interval> candidates = byDuration.get(k);
+                if (candidates.isEmpty()) {
+                    continue;
+                }
+                long longest = (1L << k) - 1;
+                for (Interval interval : candidates.subSet(bound(fromSeconds - longest, LOWEST_ID), true,
+                        bound(toSeconds, HIGHEST_ID), true)) {
+                    if (interval.end() > fromSeconds
+                            && (category == null || category.equals(interval.category()))) {
+                        matches.add(interval);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(BY_START);
+        return matches.stream().map(Interval::eventId).toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return intervals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(CatalogEntry entry, boolean replace) {
+        Interval interval = new Interval(entry.id(), entry.category(),
+                epochSeconds(entry.startTime()), epochSeconds(entry.endTime()));
+        lock.writeLock().lock();
+        try {
+            Interval previous = intervals.get(entry.id());
+            if (previous != null) {
+                if (!replace) {
+                    return;
+                }
+                unlink(previous);
+            }
+            intervals.put(interval.eventId(), interval);
+            byDuration.get(interval.durationClass()).add(interval);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(UUID eventId) {
+        lock.writeLock().lock();
+        try {
+            Interval interval = intervals.get(eventId);
+            if (interval != null) {
+                unlink(interval);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(Interval interval) {
+        intervals.remove(interval.eventId());
+        byDuration.get(interval.durationClass()).remove(interval);
+    }
+
+    private static Interval bound(long start, UUID eventId) {
+        return new Interval(eventId, null, start, start);
+    }
+
+    private static long epochSeconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.model.Rsvp;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Announces every new and cancelled {@link Rsvp} by its event id once the transaction commits, on
+ * {@link AttendeeCounts#ADDED_CHANNEL} and {@link AttendeeCounts#REMOVED_CHANNEL}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RsvpChangeListener {
+
+    private final CacheInvalidationBus invalidationBus;
+
+    @PostPersist
+    public void onRsvpCreated(Rsvp rsvp) {
+        publishAfterCommit(AttendeeCounts.ADDED_CHANNEL, rsvp);
+    }
+
+    @PostRemove
+    public void onRsvpRemoved(Rsvp rsvp) {
+        publishAfterCommit(AttendeeCounts.REMOVED_CHANNEL, rsvp);
+    }
+
+    private void publishAfterCommit(String channel, Rsvp rsvp) {
+        // The id of a lazy proxy is read without initializing it
+        String eventId = rsvp.getEvent().getId().toString();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidationBus.publish(channel, eventId);
+                }
+            });
+        } else {
+            invalidationBus.publish(channel, eventId);
+        }
+    }
+}
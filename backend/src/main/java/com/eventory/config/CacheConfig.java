@@ -0,0 +1,17 @@
+package com.eventory.config;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(CacheInvalidationBus.class)
+    public CacheInvalidationBus cacheInvalidationBus() {
+        return new InProcessCacheInvalidationBus();
+    }
+}
@@ -0,0 +1,66 @@
+package com.eventory.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits traffic between the primary database and a read replica once
+ * {@code eventory.datasource.replica.url} is set. {@code @Transactional(readOnly = true)} work is
+ * served by the replica; everything else, including reads outside a transaction, stays on the
+ * primary so it never observes replication lag.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "eventory.datasource.replica", name = "url")
+public class DataSourceConfig {
+
+    public static final String REPLICA_PREFIX = "eventory.datasource.replica";
+
+    @Bean
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(Environment environment) throws Exception {
+        Binder binder = Binder.get(environment);
+        DataSourceProperties properties = binder.bind(REPLICA_PREFIX, DataSourceProperties.class)
+                .orElseThrow(() -> new IllegalStateException(REPLICA_PREFIX + ".url is not set"));
+        properties.afterPropertiesSet();
+
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind(REPLICA_PREFIX + ".hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * Hands out connection proxies that only pick a pool at the first statement, after the
+     * transaction manager has marked the connection read-only or not.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replica);
+        return proxy;
+    }
+}
@@ -0,0 +1,91 @@
+package com.eventory.config;
+
+import com.eventory.cache.CacheStats;
+import com.eventory.cache.HibernateCacheStats;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.dto.AuthResponse;
+import com.eventory.dto.CreateEventRequest;
+import com.eventory.dto.EventResponse;
+import com.eventory.dto.LoginRequest;
+import com.eventory.dto.RefreshTokenRequest;
+import com.eventory.dto.RegisterRequest;
+import com.eventory.dto.RsvpResponse;
+import com.eventory.metrics.LatencyReport;
+import com.eventory.model.TimeOrderedUuidGenerator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.util.List;
+
+/**
+ * Runtime hints for the native image ({@code mvn -Pnative package}) covering what Spring AOT
+ * cannot see from the bean definitions and controller signatures alone.
+ */
+@Configuration
+@ImportRuntimeHints(NativeConfig.EventoryRuntimeHints.class)
+public class NativeConfig {
+
+    /** jjwt loads its implementation, compression codecs and JSON serializer by class name. */
+    static final List<String> JJWT_IMPLEMENTATIONS = List.of(
+            "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+            "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+            "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+            "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+            "io.jsonwebtoken.impl.security.JwksBridge",
+            "io.jsonwebtoken.impl.security.KeysBridge",
+            "io.jsonwebtoken.impl.security.StandardCurves",
+            "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+            "io.jsonwebtoken.impl.security.StandardKeyOperations",
+            "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionAlgorithm",
+            "io.jsonwebtoken.impl.compression.GzipCompressionAlgorithm",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    static class EventoryRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Request and response bodies, including nested types and the Lombok builders
+            new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                    AuthResponse.class, AuthResponse.UserResponse.class, CreateEventRequest.class,
+                    EventResponse.class, LoginRequest.class, RefreshTokenRequest.class, RegisterRequest.class,
+                    RsvpResponse.class, CacheStats.class, HibernateCacheStats.Report.class,
+                    LatencyReport.Report.class);
+
+            // Hibernate instantiates @IdGeneratorType generators reflectively
+            hints.reflection().registerType(TimeOrderedUuidGenerator.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // ...and the result of the catalog's JPQL constructor expression
+            hints.reflection().registerType(CatalogEntry.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            for (String type : JJWT_IMPLEMENTATIONS) {
+                hints.reflection().registerTypeIfPresent(classLoader, type,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+
+            // Second-level cache: the JCache provider is named in application.yml, its regions in ehcache.xml
+            hints.reflection().registerTypeIfPresent(classLoader, "org.ehcache.jsr107.EhcacheCachingProvider",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.reflection().registerTypeIfPresent(classLoader,
+                    "org.hibernate.cache.jcache.internal.JCacheRegionFactory",
+                    MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            hints.resources().registerPattern("ehcache.xml");
+        }
+    }
+}
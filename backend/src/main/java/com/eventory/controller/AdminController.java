@@ -0,0 +1,44 @@
+package com.eventory.controller;
+
+import com.eventory.cache.CacheStats;
+import com.eventory.cache.HibernateCacheStats;
+import com.eventory.metrics.LatencyReport;
+import com.eventory.security.CustomUserDetailsService;
+import com.eventory.security.VerifiedTokenCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final CustomUserDetailsService userDetailsService;
+    private final HibernateCacheStats hibernateCacheStats;
+    private final LatencyReport latencyReport;
+
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, CacheStats>> getCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("verifiedTokens", verifiedTokenCache.stats());
+        stats.put("userDetails", userDetailsService.cacheStats());
+        return ResponseEntity.ok(stats);
+    }
+
+    @GetMapping("/caches/hibernate")
+    public ResponseEntity<HibernateCacheStats.Report> getHibernateCacheStats() {
+        return ResponseEntity.ok(hibernateCacheStats.report());
+    }
+
+    @GetMapping("/latency")
+    public ResponseEntity<LatencyReport.Report> getLatencyReport() {
+        return ResponseEntity.ok(latencyReport.report());
+    }
+}
@@ -2,21 +2,28 @@ package com.eventory.controller;
 
 import com.eventory.dto.AuthResponse;
 import com.eventory.dto.LoginRequest;
+import com.eventory.dto.RefreshTokenRequest;
 import com.eventory.dto.RegisterRequest;
 import com.eventory.model.User;
+import com.eventory.security.AuthenticatedUser;
 import com.eventory.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final Set<String> CLAIM_FIELDS = Set.of("id", "email", "name", "role");
+
     private final AuthService authService;
 
     @PostMapping("/register")
@@ -29,9 +36,39 @@ public class AuthController {
         return ResponseEntity.ok(authService.login(request));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestBody(required = false) RefreshTokenRequest request,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authHeader) {
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        authService.logout(request != null ? request.getRefreshToken() : null, accessToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/logout-all")
+    public ResponseEntity<Void> logoutAll(@AuthenticationPrincipal UserDetails userDetails) {
+        authService.logoutAll(userDetails.getUsername());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Answers from the access token's claims unless {@code fields} asks for something the token
+     * does not carry (e.g. {@code ?fields=interests}), in which case the user is loaded.
+     */
     @GetMapping("/me")
     public ResponseEntity<AuthResponse.UserResponse> getCurrentUser(
-            @AuthenticationPrincipal UserDetails userDetails) {
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(required = false) Set<String> fields) {
+        if (userDetails instanceof AuthenticatedUser principal
+                && principal.hasProfileClaims()
+                && (fields == null || CLAIM_FIELDS.containsAll(fields))) {
+            return ResponseEntity.ok(AuthResponse.UserResponse.fromPrincipal(principal));
+        }
         User user = authService.getCurrentUser(userDetails.getUsername());
         return ResponseEntity.ok(AuthResponse.UserResponse.fromUser(user));
     }
@@ -1,15 +1,19 @@
 package com.eventory.controller;
 
 import com.eventory.dto.CreateEventRequest;
+import com.eventory.dto.EventAnalyticsResponse;
 import com.eventory.dto.EventResponse;
+import com.eventory.dto.SuggestionResponse;
 import com.eventory.service.EventService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,9 +29,21 @@ public class EventController {
             @RequestParam(required = false) Double lat,
             @RequestParam(required = false) Double lng,
             @RequestParam(required = false, defaultValue = "50") Double radius,
-            @RequestParam(required = false) String category) {
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false, defaultValue = "false") boolean happeningNow,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
 
-        if (lat != null && lng != null) {
+        boolean timeWindow = happeningNow || from != null || to != null;
+        if (timeWindow && (lat != null || lng != null)) {
+            throw new RuntimeException("lat/lng cannot be combined with from, to or happeningNow");
+        }
+        if (happeningNow) {
+            return ResponseEntity.ok(eventService.getEventsHappeningNow(category, limit));
+        } else if (timeWindow) {
+            return ResponseEntity.ok(eventService.getEventsInWindow(from, to, category, limit));
+        } else if (lat != null && lng != null) {
             return ResponseEntity.ok(eventService.getEventsNearby(lat, lng, radius, category));
         } else if (category != null && !category.isEmpty()) {
             return ResponseEntity.ok(eventService.getEventsByCategory(category));
@@ -36,11 +52,52 @@ public class EventController {
         }
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<List<EventResponse>> searchEvents(
+            @RequestParam String q,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false, defaultValue = "50") Double radius,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        return ResponseEntity.ok(eventService.searchEvents(q, category, lat, lng, radius, limit));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false, defaultValue = "10") int limit) {
+        return ResponseEntity.ok(eventService.suggest(prefix, limit));
+    }
+
+    @GetMapping("/for-you")
+    public ResponseEntity<List<EventResponse>> getForYouEvents(
+            @RequestParam(required = false) Double lat,
+            @RequestParam(required = false) Double lng,
+            @RequestParam(required = false, defaultValue = "20") int limit,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(eventService.getForYouEvents(userDetails.getUsername(), lat, lng, limit));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<EventResponse>> getTrendingEvents(
+            @RequestParam(required = false, defaultValue = "hour") String window,
+            @RequestParam(required = false, defaultValue = "20") int limit) {
+        return ResponseEntity.ok(eventService.getTrendingEvents(window, limit));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EventResponse> getEvent(@PathVariable UUID id) {
         return ResponseEntity.ok(eventService.getEventById(id));
     }
 
+    @GetMapping("/{id}/analytics")
+    public ResponseEntity<EventAnalyticsResponse> getEventAnalytics(
+            @PathVariable UUID id,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return ResponseEntity.ok(eventService.getEventAnalytics(id, userDetails.getUsername()));
+    }
+
     @PostMapping
     public ResponseEntity<EventResponse> createEvent(
             @Valid @RequestBody CreateEventRequest request,
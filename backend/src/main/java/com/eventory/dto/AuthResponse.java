@@ -1,6 +1,8 @@
 package com.eventory.dto;
 
 import com.eventory.model.User;
+import com.eventory.security.AuthenticatedUser;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -12,12 +14,15 @@ import lombok.NoArgsConstructor;
 @Builder
 public class AuthResponse {
     private String token;
+    private String refreshToken;
+    private Long expiresIn; // access token lifetime in seconds
     private UserResponse user;
 
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
     @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class UserResponse {
         private String id;
         private String email;
@@ -34,5 +39,15 @@ public class AuthResponse {
                     .interests(user.getInterests())
                     .build();
         }
+
+        /** Profile fields carried by the access token; {@code interests} is left out. */
+        public static UserResponse fromPrincipal(AuthenticatedUser principal) {
+            return UserResponse.builder()
+                    .id(principal.getId())
+                    .email(principal.getUsername())
+                    .name(principal.getName())
+                    .role(principal.getRole())
+                    .build();
+        }
     }
 }
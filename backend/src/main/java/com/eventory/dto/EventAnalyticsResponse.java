@@ -0,0 +1,55 @@
+package com.eventory.dto;
+
+import com.eventory.model.EventActivity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventAnalyticsResponse {
+    private String eventId;
+    private Long rsvps;
+    private Long cancellations;
+    private Long checkIns;
+    private List<Bucket> series;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private String resolution;
+        private LocalDateTime start;
+        private Integer rsvps;
+        private Integer cancellations;
+        private Integer checkIns;
+
+        public static Bucket fromActivity(EventActivity activity) {
+            return Bucket.builder()
+                    .resolution(activity.getResolution().name().toLowerCase(Locale.ROOT))
+                    .start(activity.getBucketStart())
+                    .rsvps(activity.getRsvps())
+                    .cancellations(activity.getCancellations())
+                    .checkIns(activity.getCheckIns())
+                    .build();
+        }
+    }
+
+    public static EventAnalyticsResponse fromActivity(String eventId, List<EventActivity> series) {
+        return EventAnalyticsResponse.builder()
+                .eventId(eventId)
+                .rsvps(series.stream().mapToLong(EventActivity::getRsvps).sum())
+                .cancellations(series.stream().mapToLong(EventActivity::getCancellations).sum())
+                .checkIns(series.stream().mapToLong(EventActivity::getCheckIns).sum())
+                .series(series.stream().map(Bucket::fromActivity).toList())
+                .build();
+    }
+}
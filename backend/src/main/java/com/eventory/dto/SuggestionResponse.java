@@ -0,0 +1,25 @@
+package com.eventory.dto;
+
+import com.eventory.search.Suggestion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Locale;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SuggestionResponse {
+    private String text;
+    private String type;
+
+    public static SuggestionResponse fromSuggestion(Suggestion suggestion) {
+        return SuggestionResponse.builder()
+                .text(suggestion.text())
+                .type(suggestion.kind().name().toLowerCase(Locale.ROOT))
+                .build();
+    }
+}
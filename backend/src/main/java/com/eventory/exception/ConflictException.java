@@ -0,0 +1,9 @@
+package com.eventory.exception;
+
+/** The request clashes with existing state, e.g. an email that is already registered. Mapped to {@code 409}. */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.eventory.exception;
+
+/** A refresh or access token was unknown, expired, revoked or reused. Mapped to {@code 401}. */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
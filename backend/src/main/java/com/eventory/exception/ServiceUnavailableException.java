@@ -0,0 +1,16 @@
+package com.eventory.exception;
+
+/**
+ * Thrown when a request is shed because a bounded resource is saturated. Mapped to
+ * {@code 503 Service Unavailable} so clients back off instead of piling on.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
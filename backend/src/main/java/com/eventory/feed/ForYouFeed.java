@@ -0,0 +1,213 @@
+package com.eventory.feed;
+
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import com.eventory.util.GeoUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Ranks every upcoming event in the {@link EventCatalog} for one user. An event scores for
+ * matching the user's interests, for being close, for starting soon and for its attendee count;
+ * each term but the first decays smoothly, so no single one decides the order.
+ *
+ * <p>Candidates are kept column-wise in parallel arrays, with the category already resolved to
+ * its interest bit and the popularity term precomputed whenever the count changes, so scoring
+ * one is a few arithmetic operations over memory read in order. A removed candidate's slot is
+ * filled with the last one. The best {@code limit} are kept in a bounded min-heap instead of
+ * sorting every candidate.
+ */
+@Component
+public class ForYouFeed implements EventCatalog.Listener, AttendeeCounts.Listener {
+
+    private static final double INTEREST_WEIGHT = 4.0;
+    private static final double DISTANCE_WEIGHT = 2.0;
+    private static final double START_WEIGHT = 1.5;
+    private static final double POPULARITY_WEIGHT = 1.0;
+
+    /** Distance at which the distance term has halved. */
+    private static final double DISTANCE_SCALE_KM = 10.0;
+    /** Time to start at which the start term has halved: two days. */
+    private static final double START_SCALE_SECONDS = 48 * 3600;
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingDouble(Hit::score);
+
+    private final AttendeeCounts attendeeCounts;
+    private final Clock clock;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Integer> slots = new HashMap<>();
+
+    private int size;
+    private UUID[] ids = new UUID[INITIAL_CAPACITY];
+    private int[] categoryBits = new int[INITIAL_CAPACITY];
+    private double[] latitudes = new double[INITIAL_CAPACITY];
+    private double[] longitudes = new double[INITIAL_CAPACITY];
+    private long[] startEpochSeconds = new long[INITIAL_CAPACITY];
+    private double[] popularity = new double[INITIAL_CAPACITY];
+
+    @Autowired
+    public ForYouFeed(EventCatalog catalog, AttendeeCounts attendeeCounts) {
+        this(catalog, attendeeCounts, Clock.systemDefaultZone());
+    }
+
+    ForYouFeed(EventCatalog catalog, AttendeeCounts attendeeCounts, Clock clock) {
+        this.attendeeCounts = attendeeCounts;
+        this.clock = clock;
+        catalog.addListener(this);
+        attendeeCounts.addListener(this);
+    }
+
+    public record Hit(UUID eventId, double score) {
+    }
+
+    @Override
+    public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+        lock.writeLock().lock();
+        try {
+            if (current == null) {
+                remove(previous.id());
+                return;
+            }
+            Integer slot = slots.get(current.id());
+            if (slot == null) {
+                slot = append(current.id());
+            }
+            categoryBits[slot] = Interests.categoryBit(current.category());
+            latitudes[slot] = Math.toRadians(current.latitude());
+            longitudes[slot] = Math.toRadians(current.longitude());
+            startEpochSeconds[slot] = current.startTime().toEpochSecond(ZoneOffset.UTC);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCountChanged(UUID eventId, long count) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(eventId);
+            if (slot != null) {
+                popularity[slot] = popularityTerm(count);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The {@code limit} best events, best first; without a location, distance does not count. */
+    public List<Hit> top(int interestMask, Double lat, Double lng, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        long now = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+        boolean located = lat != null && lng != null;
+        double latRadians = located ? Math.toRadians(lat) : 0;
+        double lngRadians = located ? Math.toRadians(lng) : 0;
+        double cosLat = Math.cos(latRadians);
+
+        PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, WORST_FIRST);
+        double worstKept = Double.NEGATIVE_INFINITY;
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                long untilStart = startEpochSeconds[i] - now;
+                if (untilStart < 0) {
+                    continue;
+                }
+                double score = START_WEIGHT / (1 + untilStart / START_SCALE_SECONDS) + popularity[i];
+                if ((categoryBits[i] & interestMask) != 0) {
+                    score += INTEREST_WEIGHT;
+                }
+                if (located) {
+                    // Equirectangular approximation: close to haversine at the distances that
+                    // matter here, and without its trigonometry per candidate
+                    double x = (longitudes[i] - lngRadians) * cosLat;
+                    double y = latitudes[i] - latRadians;
+                    double km = GeoUtils.EARTH_RADIUS_KM * Math.sqrt(x * x + y * y);
+                    score += DISTANCE_WEIGHT / (1 + km / DISTANCE_SCALE_KM);
+                }
+
+                if (heap.size() < limit) {
+                    heap.add(new Hit(ids[i], score));
+                    worstKept = heap.peek().score();
+                } else if (score > worstKept) {
+                    heap.poll();
+                    heap.add(new Hit(ids[i], score));
+                    worstKept = heap.peek().score();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Hit[] best = new Hit[heap.size()];
+        for (int i = best.length - 1; i >= 0; i--) {
+            best[i] = heap.poll();
+        }
+        return List.of(best);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int append(UUID eventId) {
+        if (size == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            categoryBits = Arrays.copyOf(categoryBits, capacity);
+            latitudes = Arrays.copyOf(latitudes, capacity);
+            longitudes = Arrays.copyOf(longitudes, capacity);
+            startEpochSeconds = Arrays.copyOf(startEpochSeconds, capacity);
+            popularity = Arrays.copyOf(popularity, capacity);
+        }
+        int slot = size++;
+        ids[slot] = eventId;
+        popularity[slot] = popularityTerm(attendeeCounts.get(eventId));
+        slots.put(eventId, slot);
+        return slot;
+    }
+
+    private void remove(UUID eventId) {
+        Integer slot = slots.remove(eventId);
+        if (slot == null) {
+            return;
+        }
+        int last = --size;
+        if (slot != last) {
+            ids[slot] = ids[last];
+            categoryBits[slot] = categoryBits[last];
+            latitudes[slot] = latitudes[last];
+            longitudes[slot] = longitudes[last];
+            startEpochSeconds[slot] = startEpochSeconds[last];
+            popularity[slot] = popularity[last];
+            slots.put(ids[slot], slot);
+        }
+        ids[last] = null;
+    }
+
+    /** Grows with the logarithm of the count and approaches {@link #POPULARITY_WEIGHT}. */
+    private static double popularityTerm(long attendees) {
+        return attendees <= 0 ? 0 : POPULARITY_WEIGHT * (1 - 1 / (1 + Math.log1p(attendees)));
+    }
+}
@@ -0,0 +1,49 @@
+package com.eventory.feed;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Bitmask over the categories the app offers, one bit each, so matching a user's interests
+ * against an event's category is a single {@code &}.
+ */
+public final class Interests {
+
+    /** The choices of the mobile interest picker; categories outside this list map to no bit. */
+    static final List<String> CATEGORIES =
+            List.of("music", "tech", "sports", "art", "food", "business", "health", "education");
+
+    private static final Map<String, Integer> BITS = new HashMap<>();
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}-]+");
+
+    static {
+        for (int i = 0; i < CATEGORIES.size(); i++) {
+            BITS.put(CATEGORIES.get(i), 1 << i);
+        }
+    }
+
+    private Interests() {
+    }
+
+    public static int categoryBit(String category) {
+        return category == null ? 0 : BITS.getOrDefault(category.trim().toLowerCase(Locale.ROOT), 0);
+    }
+
+    /**
+     * Mask of the stored interests: a comma-separated list, which the mobile client sends as a
+     * JSON string, quotes included, so anything that is not part of a name separates names.
+     */
+    public static int parse(String interests) {
+        if (interests == null) {
+            return 0;
+        }
+        int mask = 0;
+        for (String name : SEPARATOR.split(interests.toLowerCase(Locale.ROOT))) {
+            mask |= BITS.getOrDefault(name, 0);
+        }
+        return mask;
+    }
+}
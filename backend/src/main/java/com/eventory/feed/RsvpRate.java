@@ -0,0 +1,75 @@
+package com.eventory.feed;
+
+/**
+ * Net RSVPs to one event, per minute over the last hour and per hour over the last day, in two
+ * fixed ring buffers. Buckets that fall out of a window are cleared as time moves past them, and
+ * each ring keeps its running total, so reading a window is constant time.
+ */
+final class RsvpRate {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Ring minutes = new Ring(60);
+    private final Ring hours = new Ring(24);
+    private long lastActivity;
+
+    synchronized void add(long minute, int delta) {
+        minutes.add(minute, delta);
+        hours.add(minute / 60, delta);
+        lastActivity = Math.max(lastActivity, minute);
+    }
+
+    synchronized int lastHour(long minute) {
+        return minutes.total(minute);
+    }
+
+    synchronized int lastDay(long minute) {
+        return hours.total(minute / 60);
+    }
+
+    /** True once nothing has happened for a whole day. */
+    synchronized boolean idle(long minute) {
+        return minute - lastActivity >= MINUTES_PER_DAY;
+    }
+
+    private static final class Ring {
+
+        private final int[] buckets;
+        private long head = Long.MIN_VALUE;
+        private int total;
+
+        Ring(int length) {
+            buckets = new int[length];
+        }
+
+        void add(long bucket, int delta) {
+            advance(bucket);
+            // Late arrivals still count while their bucket is inside the window
+            if (bucket > head - buckets.length) {
+                buckets[(int) Math.floorMod(bucket, buckets.length)] += delta;
+                total += delta;
+            }
+        }
+
+        int total(long bucket) {
+            advance(bucket);
+            return total;
+        }
+
+        private void advance(long bucket) {
+            if (head == Long.MIN_VALUE) {
+                head = bucket;
+                return;
+            }
+            long steps = Math.min(bucket - head, buckets.length);
+            for (long step = 1; step <= steps; step++) {
+                int index = (int) Math.floorMod(head + step, buckets.length);
+                total -= buckets[index];
+                buckets[index] = 0;
+            }
+            if (bucket > head) {
+                head = bucket;
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.eventory.feed;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.EventCatalog;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.RsvpRepository.RecentRsvp;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Upcoming events ranked by how many RSVPs they gained over the last hour or day, net of
+ * cancellations, rather than by their total.
+ *
+ * <p>Each event with recent activity has an {@link RsvpRate}, moved by the RSVPs and
+ * cancellations announced on the {@link AttendeeCounts} channels and replayed from the last day
+ * of RSVPs at startup. The ranking for each window is recomputed on a schedule, so a request
+ * only reads the latest snapshot and never touches the database.
+ */
+@Component
+public class TrendingFeed {
+
+    public static final int MAX_RESULTS = 100;
+
+    public enum Window {
+        HOUR, DAY;
+
+        public static Window parse(String window) {
+            try {
+                return valueOf(window.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown trending window: " + window);
+            }
+        }
+    }
+
+    public record Hit(UUID eventId, int rsvps) {
+    }
+
+    private static final Comparator<Hit> WORST_FIRST = Comparator.comparingInt(Hit::rsvps);
+
+    private final EventCatalog catalog;
+    private final RsvpRepository rsvpRepository;
+    private final Clock clock;
+    private final Map<UUID, RsvpRate> rates = new ConcurrentHashMap<>();
+    private volatile Map<Window, List<Hit>> rankings = emptyRankings();
+
+    @Autowired
+    public TrendingFeed(EventCatalog catalog, RsvpRepository rsvpRepository, CacheInvalidationBus invalidationBus) {
+        this(catalog, rsvpRepository, invalidationBus, Clock.systemDefaultZone());
+    }
+
+    TrendingFeed(EventCatalog catalog, RsvpRepository rsvpRepository, CacheInvalidationBus invalidationBus,
+                 Clock clock) {
+        this.catalog = catalog;
+        this.rsvpRepository = rsvpRepository;
+        this.clock = clock;
+        invalidationBus.subscribe(AttendeeCounts.ADDED_CHANNEL, message -> record(UUID.fromString(message), 1));
+        invalidationBus.subscribe(AttendeeCounts.REMOVED_CHANNEL, message -> record(UUID.fromString(message), -1));
+    }
+
+    /** The top {@code limit} of the latest ranking for {@code window}, most RSVPs first. */
+    public List<Hit> top(Window window, int limit) {
+        List<Hit> ranking = rankings.get(window);
+        return ranking.subList(0, Math.max(0, Math.min(limit, ranking.size())));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (RecentRsvp rsvp : rsvpRepository.findRecentRsvps(now.minusDays(1), now)) {
+            rates.computeIfAbsent(rsvp.getEventId(), id -> new RsvpRate()).add(minuteOf(rsvp.getCreatedAt()), 1);
+        }
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${eventory.trending.refresh-interval-ms:30000}")
+    public void refresh() {
+        long minute = currentMinute();
+        rates.values().removeIf(rate -> rate.idle(minute));
+
+        Map<Window, PriorityQueue<Hit>> heaps = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            heaps.put(window, new PriorityQueue<>(MAX_RESULTS + 1, WORST_FIRST));
+        }
+        rates.forEach((eventId, rate) -> {
+            // Events that have started or been deleted stay counted until idle, but are not shown
+            if (catalog.get(eventId) == null) {
+                return;
+            }
+            offer(heaps.get(Window.HOUR), new Hit(eventId, rate.lastHour(minute)));
+            offer(heaps.get(Window.DAY), new Hit(eventId, rate.lastDay(minute)));
+        });
+
+        Map<Window, List<Hit>> refreshed = new EnumMap<>(Window.class);
+        heaps.forEach((window, heap) -> {
+            Hit[] ranking = new Hit[heap.size()];
+            for (int i = ranking.length - 1; i >= 0; i--) {
+                ranking[i] = heap.poll();
+            }
+            refreshed.put(window, List.of(ranking));
+        });
+        rankings = refreshed;
+    }
+
+    private void record(UUID eventId, int delta) {
+        rates.computeIfAbsent(eventId, id -> new RsvpRate()).add(currentMinute(), delta);
+    }
+
+    private static void offer(PriorityQueue<Hit> heap, Hit hit) {
+        if (hit.rsvps() <= 0) {
+            return;
+        }
+        if (heap.size() < MAX_RESULTS) {
+            heap.add(hit);
+        } else if (hit.rsvps() > heap.peek().rsvps()) {
+            heap.poll();
+            heap.add(hit);
+        }
+    }
+
+    private long currentMinute() {
+        return Duration.ofMillis(clock.millis()).toMinutes();
+    }
+
+    private long minuteOf(LocalDateTime time) {
+        return Duration.ofMillis(time.atZone(clock.getZone()).toInstant().toEpochMilli()).toMinutes();
+    }
+
+    private static Map<Window, List<Hit>> emptyRankings() {
+        Map<Window, List<Hit>> rankings = new EnumMap<>(Window.class);
+        for (Window window : Window.values()) {
+            rankings.put(window, List.of());
+        }
+        return rankings;
+    }
+}
@@ -0,0 +1,54 @@
+package com.eventory.feed;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.ExpiringLruCache;
+import com.eventory.model.User;
+import com.eventory.repository.UserRepository;
+import com.eventory.security.CustomUserDetailsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Each user's {@link Interests} mask, parsed once and cached by email. Entries are dropped
+ * together with the cached user details whenever the user row is written.
+ */
+@Component
+public class UserInterests {
+
+    private final UserRepository userRepository;
+    private final ExpiringLruCache<String, Integer> masks;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    @Autowired
+    public UserInterests(UserRepository userRepository,
+                         CacheInvalidationBus invalidationBus,
+                         @Value("${eventory.feed.interest-cache.max-size:10000}") int maxSize,
+                         @Value("${eventory.feed.interest-cache.ttl:5m}") Duration ttl) {
+        this(userRepository, invalidationBus, maxSize, ttl, Clock.systemUTC());
+    }
+
+    UserInterests(UserRepository userRepository, CacheInvalidationBus invalidationBus,
+                  int maxSize, Duration ttl, Clock clock) {
+        this.userRepository = userRepository;
+        this.masks = new ExpiringLruCache<>(maxSize, clock);
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        invalidationBus.subscribe(CustomUserDetailsService.CACHE_NAME, masks::invalidate);
+    }
+
+    public int mask(String email) {
+        Integer mask = masks.get(email);
+        if (mask == null) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new RuntimeException("User not found"));
+            mask = Interests.parse(user.getInterests());
+            masks.put(email, mask, clock.millis() + ttlMillis);
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,98 @@
+package com.eventory.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.HistogramSupport;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Summarizes the latency and statement-count distributions for the admin API, heaviest first
+ * (by total time or total statements). Percentiles cover the last couple of minutes, as kept by
+ * Micrometer's rolling histograms; counts and totals cover the process lifetime.
+ */
+@Component
+@RequiredArgsConstructor
+public class LatencyReport {
+
+    public static final String HTTP_METRIC = "http.server.requests";
+    public static final String REPOSITORY_METRIC = "spring.data.repository.invocations";
+    public static final String POOL_ACQUIRE_METRIC = "hikaricp.connections.acquire";
+
+    private final MeterRegistry meterRegistry;
+
+    public Report report() {
+        return new Report(
+                timers(HTTP_METRIC, meter -> tag(meter, "method") + " " + tag(meter, "uri") + " "
+                        + tag(meter, "status") + " " + tag(meter, "handler")),
+                timers(REPOSITORY_METRIC, meter -> tag(meter, "repository") + "." + tag(meter, "method")
+                        + ("SUCCESS".equals(tag(meter, "state")) ? "" : " " + tag(meter, "state"))),
+                summaries(StatementCountingFilter.METRIC_NAME,
+                        meter -> tag(meter, "method") + " " + tag(meter, "uri")),
+                timers(POOL_ACQUIRE_METRIC, meter -> tag(meter, "pool")));
+    }
+
+    private List<Distribution> timers(String name, Function<Meter, String> key) {
+        return distributions(meterRegistry.find(name).timers(), key, TimeUnit.MILLISECONDS);
+    }
+
+    private List<Distribution> summaries(String name, Function<Meter, String> key) {
+        return distributions(meterRegistry.find(name).summaries(), key, null);
+    }
+
+    private static List<Distribution> distributions(Collection<? extends Meter> meters,
+                                                    Function<Meter, String> key, TimeUnit unit) {
+        return meters.stream()
+                .map(meter -> Distribution.of(key.apply(meter), snapshot(meter), unit))
+                .sorted(Comparator.comparingDouble(Distribution::total).reversed())
+                .toList();
+    }
+
+    private static HistogramSnapshot snapshot(Meter meter) {
+        return ((HistogramSupport) meter).takeSnapshot();
+    }
+
+    private static String tag(Meter meter, String key) {
+        String value = meter.getId().getTag(key);
+        return value != null ? value : "-";
+    }
+
+    /**
+     * Request latencies, repository call latencies and pool wait times are in milliseconds;
+     * statements per request are plain counts.
+     */
+    public record Report(List<Distribution> endpoints, List<Distribution> repositories,
+                         List<Distribution> statementsPerRequest, List<Distribution> connectionAcquire) {
+    }
+
+    public record Distribution(String name, long count, double total, double mean,
+                               double p50, double p95, double p99, double max) {
+
+        static Distribution of(String name, HistogramSnapshot snapshot, TimeUnit unit) {
+            return new Distribution(name, snapshot.count(),
+                    unit != null ? snapshot.total(unit) : snapshot.total(),
+                    unit != null ? snapshot.mean(unit) : snapshot.mean(),
+                    percentile(snapshot, 0.5, unit),
+                    percentile(snapshot, 0.95, unit),
+                    percentile(snapshot, 0.99, unit),
+                    unit != null ? snapshot.max(unit) : snapshot.max());
+        }
+
+        private static double percentile(HistogramSnapshot snapshot, double percentile, TimeUnit unit) {
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return unit != null ? value.value(unit) : value.value();
+                }
+            }
+            return Double.NaN;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.eventory.model;
 
+import com.eventory.catalog.EventChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Table(name = "events")
+@EntityListeners(EventChangeListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,7 +20,7 @@ import java.util.UUID;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
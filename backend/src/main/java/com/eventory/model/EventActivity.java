@@ -0,0 +1,54 @@
+package com.eventory.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** RSVPs, cancellations and check-ins of one event within one minute, hour or day. */
+@Entity
+@Table(name = "event_activity")
+@IdClass(EventActivity.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventActivity {
+
+    public enum Resolution {
+        MINUTE, HOUR, DAY
+    }
+
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private Resolution resolution;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private int rsvps;
+
+    @Column(nullable = false)
+    private int cancellations;
+
+    @Column(name = "check_ins", nullable = false)
+    private int checkIns;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID eventId;
+        private Resolution resolution;
+        private LocalDateTime bucketStart;
+    }
+}
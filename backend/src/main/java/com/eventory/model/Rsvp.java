@@ -1,5 +1,7 @@
 package com.eventory.model;
 
+import com.eventory.analytics.RsvpActivityListener;
+import com.eventory.catalog.RsvpChangeListener;
 import jakarta.persistence.*;
 import lombok.*;
 import java.time.LocalDateTime;
@@ -9,6 +11,7 @@ import java.util.UUID;
 @Table(name = "rsvps", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "event_id", "user_id" })
 })
+@EntityListeners({RsvpChangeListener.class, RsvpActivityListener.class})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -16,7 +19,7 @@ import java.util.UUID;
 public class Rsvp {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,62 @@
+package com.eventory.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7 (RFC 9562): 48 bits of Unix epoch milliseconds, the version, a 12-bit sequence that
+ * keeps ids generated within the same millisecond in order, the variant and 62 random bits.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private final Clock clock;
+    private final Random random;
+    // Last issued (millis << 12 | sequence); a full sequence rolls into the next millisecond
+    private final AtomicLong lastStamp = new AtomicLong();
+
+    public TimeOrderedUuidGenerator() {
+        this(Clock.systemUTC(), SECURE_RANDOM);
+    }
+
+    /**
+     * Stamps ids with {@code clock} and draws their random bits from {@code random}. A fixed clock
+     * and a seeded {@link Random} repeat the same ids on every run, for reproducible seed data.
+     */
+    public TimeOrderedUuidGenerator(Clock clock, Random random) {
+        this.clock = clock;
+        this.random = random;
+    }
+
+    public UUID next() {
+        return next(clock.millis());
+    }
+
+    UUID next(long epochMillis) {
+        long stamp = lastStamp.updateAndGet(last -> Math.max(epochMillis << 12, last + 1));
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = random.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -1,12 +1,17 @@
 package com.eventory.model;
 
+import com.eventory.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
+@EntityListeners(UserCacheInvalidationListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,7 +19,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -42,11 +47,36 @@ public class User {
     @Builder.Default
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    /** Role and password hash as last read or written, to tell whether an update changed either. */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private String storedCredentials;
+
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
 
+    // Entity listeners run first, so they still see the credentials from before a write
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void onStored() {
+        storedCredentials = credentials();
+    }
+
+    /** Whether the role or password hash differs from the stored row, or the row was never read. */
+    public boolean credentialsChanged() {
+        return !credentials().equals(storedCredentials);
+    }
+
+    private String credentials() {
+        return role + ":" + passwordHash;
+    }
+
     public enum Role {
         ATTENDEE,
         ORGANIZER,
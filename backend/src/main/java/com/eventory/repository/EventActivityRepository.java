@@ -0,0 +1,62 @@
+package com.eventory.repository;
+
+import com.eventory.model.EventActivity;
+import com.eventory.model.EventActivity.Resolution;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EventActivityRepository extends JpaRepository<EventActivity, EventActivity.Key> {
+
+    List<EventActivity> findByEventIdOrderByBucketStart(UUID eventId);
+
+    /** Locks the buckets until the transaction ends, so no flush adds to one while it is being rolled up. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<EventActivity> findByResolutionAndBucketStartBefore(Resolution resolution, LocalDateTime cutoff);
+
+    /**
+     * Adds the counts to a bucket, creating it if needed; nothing happens for a deleted event.
+     * PostgreSQL only: unlike MERGE, concurrent upserts of a new bucket never fail on its key.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO event_activity (event_id, resolution, bucket_start, rsvps, cancellations, check_ins)
+            SELECT id, :resolution, :bucketStart, :rsvps, :cancellations, :checkIns FROM events WHERE id = :eventId
+            ON CONFLICT (event_id, resolution, bucket_start) DO UPDATE SET rsvps = event_activity.rsvps + EXCLUDED.rsvps,
+                cancellations = event_activity.cancellations + EXCLUDED.cancellations,
+                check_ins = event_activity.check_ins + EXCLUDED.check_ins
+            """, nativeQuery = true)
+    int upsert(@Param("eventId") UUID eventId,
+               @Param("resolution") String resolution,
+               @Param("bucketStart") LocalDateTime bucketStart,
+               @Param("rsvps") int rsvps,
+               @Param("cancellations") int cancellations,
+               @Param("checkIns") int checkIns);
+
+    /** {@link #upsert} for H2, which has no {@code ON CONFLICT ... DO UPDATE}. */
+    @Modifying
+    @Query(value = """
+            MERGE INTO event_activity a
+            USING (SELECT id FROM events WHERE id = :eventId) e
+            ON a.event_id = e.id AND a.resolution = :resolution AND a.bucket_start = :bucketStart
+            WHEN MATCHED THEN UPDATE SET rsvps = a.rsvps + :rsvps,
+                cancellations = a.cancellations + :cancellations, check_ins = a.check_ins + :checkIns
+            WHEN NOT MATCHED THEN INSERT (event_id, resolution, bucket_start, rsvps, cancellations, check_ins)
+                VALUES (e.id, :resolution, :bucketStart, :rsvps, :cancellations, :checkIns)
+            """, nativeQuery = true)
+    int merge(@Param("eventId") UUID eventId,
+              @Param("resolution") String resolution,
+              @Param("bucketStart") LocalDateTime bucketStart,
+              @Param("rsvps") int rsvps,
+              @Param("cancellations") int cancellations,
+              @Param("checkIns") int checkIns);
+}
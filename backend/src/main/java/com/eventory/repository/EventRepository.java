@@ -1,13 +1,21 @@
 package com.eventory.repository;
 
+import com.eventory.catalog.CatalogEntry;
 import com.eventory.model.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
@@ -17,10 +25,25 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
 
     List<Event> findByOrganizerId(UUID organizerId);
 
-    @Query("SELECT e FROM Event e WHERE e.startTime >= :now ORDER BY e.startTime ASC")
+    /** Locks the event row until the transaction ends, so RSVPs against its capacity queue up. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id")
+    Optional<Event> lockById(@Param("id") UUID id);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "eventFeeds")})
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.startTime >= :now ORDER BY e.startTime ASC")
     List<Event> findUpcomingEvents(@Param("now") LocalDateTime now);
 
-    @Query("SELECT e FROM Event e WHERE e.category = :category AND e.startTime >= :now ORDER BY e.startTime ASC")
+    /** Events picked by an in-memory ranking, with their organizers, in no particular order. */
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.id IN :ids")
+    List<Event> findAllWithOrganizerByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "eventFeeds")})
+    @Query("SELECT e FROM Event e JOIN FETCH e.organizer WHERE e.category = :category AND e.startTime >= :now ORDER BY e.startTime ASC")
     List<Event> findUpcomingEventsByCategory(@Param("category") String category, @Param("now") LocalDateTime now);
 
     @Query(value = """
@@ -52,4 +75,18 @@ public interface EventRepository extends JpaRepository<Event, UUID> {
             @Param("radius") Double radiusKm,
             @Param("category") String category,
             @Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT new com.eventory.catalog.CatalogEntry(e.id, e.title, e.description, e.venueName, e.category,
+                e.latitude, e.longitude, e.startTime, e.endTime)
+            FROM Event e WHERE e.startTime >= :now
+            """)
+    List<CatalogEntry> findCatalogEntries(@Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT new com.eventory.catalog.CatalogEntry(e.id, e.title, e.description, e.venueName, e.category,
+                e.latitude, e.longitude, e.startTime, e.endTime)
+            FROM Event e WHERE e.endTime > :now
+            """)
+    List<CatalogEntry> findUnfinishedEntries(@Param("now") LocalDateTime now);
 }
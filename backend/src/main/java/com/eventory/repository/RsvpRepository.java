@@ -0,0 +1,64 @@
+package com.eventory.repository;
+
+import com.eventory.model.Rsvp;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface RsvpRepository extends JpaRepository<Rsvp, UUID> {
+
+    Optional<Rsvp> findByQrCode(String qrCode);
+
+    Optional<Rsvp> findByEventIdAndUserId(UUID eventId, UUID userId);
+
+    @EntityGraph(attributePaths = {"event", "user"})
+    List<Rsvp> findByUserId(UUID userId);
+
+    @EntityGraph(attributePaths = {"event", "user"})
+    List<Rsvp> findByEventId(UUID eventId);
+
+    boolean existsByEventIdAndUserId(UUID eventId, UUID userId);
+
+    @Query("SELECT COUNT(r) FROM Rsvp r WHERE r.event.id = :eventId")
+    long countByEventId(@Param("eventId") UUID eventId);
+
+    /** RSVP counts for a page of events in one query; events without RSVPs are absent. */
+    @Query("SELECT r.event.id AS eventId, COUNT(r) AS count FROM Rsvp r WHERE r.event.id IN :eventIds GROUP BY r.event.id")
+    List<EventRsvpCount> countByEventIds(@Param("eventIds") Collection<UUID> eventIds);
+
+    /** RSVP counts of every event that has not started yet, for seeding the in-memory counts. */
+    @Query("SELECT r.event.id AS eventId, COUNT(r) AS count FROM Rsvp r WHERE r.event.startTime >= :now GROUP BY r.event.id")
+    List<EventRsvpCount> countUpcomingByEvent(@Param("now") LocalDateTime now);
+
+    /** Event and time of each RSVP to an upcoming event made since {@code since}, oldest first. */
+    @Query("""
+            SELECT r.event.id AS eventId, r.createdAt AS createdAt FROM Rsvp r
+            WHERE r.createdAt >= :since AND r.event.startTime >= :now
+            ORDER BY r.createdAt
+            """)
+    List<RecentRsvp> findRecentRsvps(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(r) FROM Rsvp r WHERE r.event.id = :eventId AND r.checkedIn = true")
+    long countCheckedInByEventId(@Param("eventId") UUID eventId);
+
+    interface EventRsvpCount {
+        UUID getEventId();
+
+        long getCount();
+    }
+
+    interface RecentRsvp {
+        UUID getEventId();
+
+        LocalDateTime getCreatedAt();
+    }
+}
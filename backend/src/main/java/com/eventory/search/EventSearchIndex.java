@@ -0,0 +1,173 @@
+package com.eventory.search;
+
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Inverted index over the title, venue, category and description of every event in the
+ * {@link EventCatalog}, updated entry by entry as the catalog changes.
+ *
+ * <p>Terms live in a sorted dictionary, so a query token matches the term itself and, by a range
+ * scan, the terms it is a prefix of ("jaz" finds "jazz"). Every query token has to match. A match
+ * scores the term's field weight times its inverse document frequency, halved for prefix
+ * matches; ties go to the event that starts first.
+ */
+@Component
+public class EventSearchIndex implements EventCatalog.Listener {
+
+    /** Bounds the work for short prefixes such as "co", which can expand to hundreds of terms. */
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double VENUE_WEIGHT = 2.0;
+    private static final double CATEGORY_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final EventCatalog catalog;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<UUID, Double>> postings = new TreeMap<>();
+    private final Map<UUID, Map<String, Double>> documents = new HashMap<>();
+
+    public EventSearchIndex(EventCatalog catalog) {
+        this.catalog = catalog;
+        catalog.addListener(this);
+    }
+
+    public record Hit(UUID eventId, double score) {
+    }
+
+    @Override
+    public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+        Map<String, Double> terms = current == null ? null : termWeights(current);
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                removeDocument(previous.id());
+            }
+            if (current != null) {
+                documents.put(current.id(), terms);
+                terms.forEach((term, weight) ->
+                        postings.computeIfAbsent(term, key -> new HashMap<>()).put(current.id(), weight));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Best {@code limit} events matching every token of {@code query} and accepted by {@code filter}. */
+    public List<Hit> search(String query, Predicate<CatalogEntry> filter, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<UUID, Double> scores = null;
+        lock.readLock().lock();
+        try {
+            for (String token : tokens) {
+                Map<UUID, Double> matches = match(token);
+                if (scores == null) {
+                    scores = matches;
+                } else {
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((eventId, score) -> score + matches.get(eventId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        scores.forEach((eventId, score) -> {
+            CatalogEntry entry = catalog.get(eventId);
+            if (entry != null && filter.test(entry)) {
+                candidates.add(new Candidate(entry, score));
+            }
+        });
+        return candidates.stream()
+                .sorted(Comparator.comparingDouble(Candidate::score).reversed()
+                        .thenComparing(candidate -> candidate.entry().startTime()))
+                .limit(limit)
+                .map(candidate -> new Hit(candidate.entry().id(), candidate.score()))
+                .toList();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Per-event score for one query token: the exact term, else its best prefix expansion. */
+    private Map<UUID, Double> match(String token) {
+        Map<UUID, Double> matches = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<UUID, Double>> term
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false).entrySet()) {
+            boolean exact = term.getKey().equals(token);
+            // The exact term sorts first, so only expansions are cut off
+            if (!exact && ++expansions > MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            double idf = Math.log(1 + (double) documents.size() / term.getValue().size());
+            double factor = exact ? idf : idf * PREFIX_MATCH_FACTOR;
+            term.getValue().forEach((eventId, weight) -> matches.merge(eventId, weight * factor, Math::max));
+        }
+        return matches;
+    }
+
+    private void removeDocument(UUID eventId) {
+        Map<String, Double> terms = documents.remove(eventId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<UUID, Double> events = postings.get(term);
+            events.remove(eventId);
+            if (events.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    /** Each term's weight: the field weight, damped logarithmically by repeats, summed over fields. */
+    private static Map<String, Double> termWeights(CatalogEntry entry) {
+        Map<String, Double> weights = new HashMap<>();
+        addField(weights, entry.title(), TITLE_WEIGHT);
+        addField(weights, entry.venueName(), VENUE_WEIGHT);
+        addField(weights, entry.category(), CATEGORY_WEIGHT);
+        addField(weights, entry.description(), DESCRIPTION_WEIGHT);
+        return weights;
+    }
+
+    private static void addField(Map<String, Double> weights, String text, double fieldWeight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        Tokenizer.tokenize(text).forEach(token -> frequencies.merge(token, 1, Integer::sum));
+        frequencies.forEach((token, frequency) ->
+                weights.merge(token, fieldWeight * (1 + Math.log(frequency)), Double::sum));
+    }
+
+    private record Candidate(CatalogEntry entry, double score) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.eventory.search;
+
+/**
+ * One distinct title, venue name or category offered by {@link SuggestionIndex}, however many
+ * events share it. Its weight is the people going to those events plus one per event, so a venue
+ * with upcoming events ranks even before anyone has replied.
+ */
+public final class Suggestion {
+
+    public enum Kind {
+        TITLE, VENUE, CATEGORY
+    }
+
+    private final String text;
+    private final Kind kind;
+    final String key;
+    int events;
+    long attendees;
+
+    Suggestion(String text, Kind kind, String key) {
+        this.text = text;
+        this.kind = kind;
+        this.key = key;
+    }
+
+    public String text() {
+        return text;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    long weight() {
+        return attendees + events;
+    }
+}
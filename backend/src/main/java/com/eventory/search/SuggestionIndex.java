@@ -0,0 +1,450 @@
+package com.eventory.search;
+
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * Autocomplete over the titles, venue names and categories of the events in the
+ * {@link EventCatalog}.
+ *
+ * <p>Each distinct text is one {@link Suggestion}, reachable from its start and from the start of
+ * each later word ("jazz ni" finds "Blue Note Jazz Night") through a radix trie. Nodes starting
+ * within {@link #CACHED_DEPTH} characters of the root keep the best {@link #MAX_SUGGESTIONS}
+ * suggestions below them, so a short prefix, which matches the most texts, is a walk down the
+ * trie and a copy. Deeper nodes, the vast majority, keep nothing: their subtrees are small, and
+ * a longer prefix collects its best from them when asked.
+ *
+ * <p>Changes are applied in place: a suggestion that gains weight is pushed into the caching
+ * nodes above its keys, and only the nodes that held one that lost weight or went away are
+ * recomputed, deepest first, from their own keys and their children's best.
+ */
+@Component
+public class SuggestionIndex implements EventCatalog.Listener, AttendeeCounts.Listener {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    /** Word starts a text is reachable from beyond its first; bounds the keys of long titles. */
+    static final int MAX_WORD_KEYS = 8;
+
+    /** Nodes starting before this many characters keep their best suggestions. */
+    static final int CACHED_DEPTH = 4;
+
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator.comparingLong(Suggestion::weight).reversed()
+            .thenComparingInt(suggestion -> suggestion.key.length())
+            .thenComparing(suggestion -> suggestion.key)
+            .thenComparing(Suggestion::kind);
+
+    private static final Suggestion[] NONE = new Suggestion[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final AttendeeCounts attendeeCounts;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("", 0);
+    // Keyed by kind, then by the suggestion's own key string, so no composite key is kept per text
+    private final Map<Suggestion.Kind, Map<String, Suggestion>> suggestions = new EnumMap<>(Suggestion.Kind.class);
+    private final Map<UUID, Contribution> contributions = new HashMap<>();
+
+    public SuggestionIndex(EventCatalog catalog, AttendeeCounts attendeeCounts) {
+        this.attendeeCounts = attendeeCounts;
+        catalog.addListener(this);
+        attendeeCounts.addListener(this);
+    }
+
+    @Override
+    public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+        UUID eventId = current != null ? current.id() : previous.id();
+        lock.writeLock().lock();
+        try {
+            Contribution old = contributions.remove(eventId);
+            List<Suggestion> texts = current == null ? List.of() : suggestionsOf(current);
+            if (old != null && old.suggestions().equals(texts)) {
+                contributions.put(eventId, old);
+                return;
+            }
+            long attendees = old != null ? old.attendees() : attendeeCounts.get(eventId);
+            // Adding first keeps a text the event still has indexed while its other texts change
+            if (current != null) {
+                texts.forEach(suggestion -> change(suggestion, 1, attendees));
+                contributions.put(eventId, new Contribution(texts, attendees));
+            }
+            if (old != null) {
+                old.suggestions().forEach(suggestion -> change(suggestion, -1, -old.attendees()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onCountChanged(UUID eventId, long count) {
+        lock.writeLock().lock();
+        try {
+            Contribution contribution = contributions.get(eventId);
+            if (contribution == null || contribution.attendees() == count) {
+                return;
+            }
+            long delta = count - contribution.attendees();
+            contributions.put(eventId, new Contribution(contribution.suggestions(), count));
+            contribution.suggestions().forEach(suggestion -> change(suggestion, 0, delta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The best {@code limit} suggestions with a word starting with {@code prefix}, best first. */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = Tokenizer.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Node node = find(key);
+            if (node == null) {
+                return List.of();
+            }
+            Suggestion[] best = node.cached() ? node.best : collectBest(node);
+            return List.of(Arrays.copyOf(best, Math.min(limit, best.length)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestions.values().stream().mapToInt(Map::size).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** The suggestions {@code entry} contributes, existing ones reused, new ones not yet indexed. */
+    private List<Suggestion> suggestionsOf(CatalogEntry entry) {
+        List<Suggestion> texts = new ArrayList<>(3);
+        addSuggestion(texts, entry.title(), Suggestion.Kind.TITLE);
+        addSuggestion(texts, entry.venueName(), Suggestion.Kind.VENUE);
+        addSuggestion(texts, entry.category(), Suggestion.Kind.CATEGORY);
+        return texts;
+    }
+
+    private void addSuggestion(List<Suggestion> texts, String text, Suggestion.Kind kind) {
+        String key = Tokenizer.normalize(text);
+        if (!key.isEmpty()) {
+            texts.add(suggestions.computeIfAbsent(kind, k -> new HashMap<>())
+                    .computeIfAbsent(key, k -> new Suggestion(text.strip(), kind, key)));
+        }
+    }
+
+    private void change(Suggestion suggestion, int eventDelta, long attendeeDelta) {
+        boolean indexed = suggestion.events > 0;
+        long weight = suggestion.weight();
+        suggestion.events += eventDelta;
+        suggestion.attendees += attendeeDelta;
+
+        if (suggestion.events == 0) {
+            suggestions.get(suggestion.kind()).remove(suggestion.key);
+            unindex(suggestion);
+        } else if (!indexed) {
+            for (String key : keysOf(suggestion.key)) {
+                List<Node> path = insert(key);
+                path.get(path.size() - 1).terminals = append(path.get(path.size() - 1).terminals, suggestion);
+                path.forEach(node -> promote(node, suggestion));
+            }
+        } else if (suggestion.weight() > weight) {
+            for (String key : keysOf(suggestion.key)) {
+                path(key).forEach(node -> promote(node, suggestion));
+            }
+        } else if (suggestion.weight() < weight) {
+            recompute(suggestion, pathsOf(suggestion));
+        }
+    }
+
+    private void unindex(Suggestion suggestion) {
+        List<List<Node>> paths = pathsOf(suggestion);
+        for (List<Node> path : paths) {
+            Node end = path.get(path.size() - 1);
+            end.terminals = without(end.terminals, suggestion);
+        }
+        recompute(suggestion, paths);
+
+        // Deepest first across all paths, so no node is compacted after its parent
+        Map<Node, Node> parents = new IdentityHashMap<>();
+        for (List<Node> path : paths) {
+            for (int depth = 1; depth < path.size(); depth++) {
+                parents.put(path.get(depth), path.get(depth - 1));
+            }
+        }
+        byDepth(paths, parents::containsKey)
+                .forEach(node -> compact(parents.get(node), node));
+    }
+
+    /** Rebuilds, children before parents, the best of every node on {@code paths} that held {@code suggestion}. */
+    private static void recompute(Suggestion suggestion, List<List<Node>> paths) {
+        byDepth(paths, node -> contains(node.best, suggestion)).forEach(node -> node.best = bestOf(node));
+    }
+
+    /** The distinct nodes on {@code paths} accepted by {@code filter}, deepest first. */
+    private static List<Node> byDepth(List<List<Node>> paths, Predicate<Node> filter) {
+        Map<Node, Integer> depths = new IdentityHashMap<>();
+        for (List<Node> path : paths) {
+            for (int depth = 0; depth < path.size(); depth++) {
+                if (filter.test(path.get(depth))) {
+                    depths.put(path.get(depth), depth);
+                }
+            }
+        }
+        return depths.entrySet().stream()
+                .sorted(Map.Entry.<Node, Integer>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Suggestion[] bestOf(Node node) {
+        Set<Suggestion> candidates = new LinkedHashSet<>(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            if (child.cached()) {
+                candidates.addAll(Arrays.asList(child.best));
+            } else {
+                collect(child, candidates);
+            }
+        }
+        return candidates.stream().sorted(BEST_FIRST).limit(MAX_SUGGESTIONS).toArray(Suggestion[]::new);
+    }
+
+    /** The best of a node that keeps none, from every suggestion ending at or below it. */
+    private static Suggestion[] collectBest(Node node) {
+        Set<Suggestion> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        collect(node, candidates);
+        return candidates.stream().sorted(BEST_FIRST).limit(MAX_SUGGESTIONS).toArray(Suggestion[]::new);
+    }
+
+    private static void collect(Node node, Set<Suggestion> into) {
+        Collections.addAll(into, node.terminals);
+        for (Node child : node.children) {
+            collect(child, into);
+        }
+    }
+
+    private static void promote(Node node, Suggestion suggestion) {
+        if (!node.cached()) {
+            return;
+        }
+        Suggestion[] best = node.best;
+        if (!contains(best, suggestion)) {
+            if (best.length < MAX_SUGGESTIONS) {
+                best = append(best, suggestion);
+            } else if (BEST_FIRST.compare(suggestion, best[best.length - 1]) < 0) {
+                best = best.clone();
+                best[best.length - 1] = suggestion;
+            } else {
+                return;
+            }
+        } else {
+            best = best.clone();
+        }
+        Arrays.sort(best, BEST_FIRST);
+        node.best = best;
+    }
+
+    /** Drops {@code child} once nothing ends at or below it, and folds it into its only child. */
+    private static void compact(Node parent, Node child) {
+        if (child.terminals.length > 0) {
+            return;
+        }
+        if (child.children.length == 0) {
+            parent.removeChild(child);
+        } else if (child.children.length == 1) {
+            Node only = child.children[0];
+            child.label = child.label + only.label;
+            child.children = only.children;
+            child.terminals = only.terminals;
+            child.best = child.cached() && !only.cached() ? bestOf(child) : only.best;
+        }
+    }
+
+    /** The node {@code prefix} ends at or inside, or null when no key starts with it. */
+    private Node find(String prefix) {
+        Node node = root;
+        int at = 0;
+        while (at < prefix.length()) {
+            Node child = node.child(prefix.charAt(at));
+            if (child == null) {
+                return null;
+            }
+            int common = commonPrefix(child.label, prefix, at);
+            if (at + common == prefix.length()) {
+                return child;
+            }
+            if (common < child.label.length()) {
+                return null;
+            }
+            node = child;
+            at += common;
+        }
+        return node;
+    }
+
+    /** The nodes from the root to where {@code key} ends, splitting an edge if it ends inside one. */
+    private List<Node> insert(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        int at = 0;
+        while (at < key.length()) {
+            Node child = node.child(key.charAt(at));
+            if (child == null) {
+                child = new Node(key.substring(at), at);
+                node.addChild(child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefix(child.label, key, at);
+            if (common < child.label.length()) {
+                // The split takes over the child's subtree and best; the child may now start too deep to keep one
+                Node split = new Node(child.label.substring(0, common), at);
+                child.label = child.label.substring(common);
+                child.depth = at + common;
+                split.children = new Node[]{child};
+                split.best = child.best;
+                if (!child.cached()) {
+                    child.best = NONE;
+                }
+                node.replaceChild(child, split);
+                child = split;
+            }
+            path.add(child);
+            node = child;
+            at += common;
+        }
+        return path;
+    }
+
+    /** The nodes from the root to where an indexed {@code key} ends. */
+    private List<Node> path(String key) {
+        List<Node> path = new ArrayList<>();
+        Node node = root;
+        path.add(node);
+        for (int at = 0; at < key.length(); at += node.label.length()) {
+            node = node.child(key.charAt(at));
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<List<Node>> pathsOf(Suggestion suggestion) {
+        return keysOf(suggestion.key).stream().map(this::path).toList();
+    }
+
+    /** {@code text} and its tails from each later word start, up to {@link #MAX_WORD_KEYS}. */
+    static List<String> keysOf(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(text);
+        for (int at = text.indexOf(' '); at >= 0 && keys.size() <= MAX_WORD_KEYS; at = text.indexOf(' ', at + 1)) {
+            keys.add(text.substring(at + 1));
+        }
+        return List.copyOf(keys);
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int length = Math.min(label.length(), key.length() - from);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(from + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    private static boolean contains(Suggestion[] suggestions, Suggestion suggestion) {
+        for (Suggestion candidate : suggestions) {
+            if (candidate == suggestion) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Suggestion[] append(Suggestion[] suggestions, Suggestion suggestion) {
+        Suggestion[] appended = Arrays.copyOf(suggestions, suggestions.length + 1);
+        appended[suggestions.length] = suggestion;
+        return appended;
+    }
+
+    private static Suggestion[] without(Suggestion[] suggestions, Suggestion suggestion) {
+        return suggestions.length == 1 && suggestions[0] == suggestion
+                ? NONE
+                : Arrays.stream(suggestions).filter(candidate -> candidate != suggestion).toArray(Suggestion[]::new);
+    }
+
+    private record Contribution(List<Suggestion> suggestions, long attendees) {
+    }
+
+    /**
+     * A trie node, reached from its parent over {@code label}, which starts {@code depth}
+     * characters into every key through it. Children are few per node and searched linearly by
+     * their label's first character.
+     */
+    private static final class Node {
+        String label;
+        int depth;
+        Node[] children = NO_CHILDREN;
+        Suggestion[] terminals = NONE;
+        Suggestion[] best = NONE;
+
+        Node(String label, int depth) {
+            this.label = label;
+            this.depth = depth;
+        }
+
+        boolean cached() {
+            return depth < CACHED_DEPTH;
+        }
+
+        Node child(char first) {
+            for (Node child : children) {
+                if (child.label.charAt(0) == first) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void addChild(Node child) {
+            children = Arrays.copyOf(children, children.length + 1);
+            children[children.length - 1] = child;
+        }
+
+        void replaceChild(Node child, Node replacement) {
+            for (int i = 0; i < children.length; i++) {
+                if (children[i] == child) {
+                    children[i] = replacement;
+                    return;
+                }
+            }
+        }
+
+        void removeChild(Node child) {
+            children = children.length == 1
+                    ? NO_CHILDREN
+                    : Arrays.stream(children).filter(candidate -> candidate != child).toArray(Node[]::new);
+        }
+    }
+}
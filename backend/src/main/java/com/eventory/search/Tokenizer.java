@@ -0,0 +1,50 @@
+package com.eventory.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits text into lower-case, accent-free word tokens, so "Café Jazz-Night" and "cafe jazz
+ * night" index and match alike. Single characters are dropped: they carry little meaning and
+ * would match almost every event.
+ */
+public final class Tokenizer {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private Tokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(fold(text))) {
+            if (token.length() >= MIN_TOKEN_LENGTH) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** All words of {@code text}, single characters included, folded alike and joined by single spaces. */
+    public static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        return NON_WORD.matcher(fold(text)).replaceAll(" ").trim();
+    }
+
+    private static String fold(String text) {
+        return COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,184 @@
+package com.eventory.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Throttles {@code POST /api/auth/login} and {@code POST /api/auth/register} per client IP and
+ * per account email before the request reaches any database or hashing work.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}, which
+ * {@code server.forward-headers-strategy: native} resolves from {@code X-Forwarded-For} for
+ * requests relayed by a trusted proxy; otherwise every client behind the proxy would share one
+ * bucket.
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final boolean enabled;
+    private final TokenBucketRateLimiter ipLimiter;
+    private final TokenBucketRateLimiter emailLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AuthRateLimitFilter(ObjectMapper objectMapper,
+                               @Value("${security.rate-limit.enabled:true}") boolean enabled,
+                               @Value("${security.rate-limit.ip.capacity:20}") int ipCapacity,
+                               @Value("${security.rate-limit.ip.refill-per-second:1}") double ipRefillPerSecond,
+                               @Value("${security.rate-limit.email.capacity:5}") int emailCapacity,
+                               @Value("${security.rate-limit.email.refill-per-second:0.1}") double emailRefillPerSecond) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ipLimiter = new TokenBucketRateLimiter(ipCapacity, ipRefillPerSecond, Clock.systemUTC());
+        this.emailLimiter = new TokenBucketRateLimiter(emailCapacity, emailRefillPerSecond, Clock.systemUTC());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        if (!enabled || !HttpMethod.POST.matches(request.getMethod())) {
+            return true;
+        }
+        String path = request.getServletPath();
+        return !path.equals("/api/auth/login") && !path.equals("/api/auth/register");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain) throws ServletException, IOException {
+        String ip = request.getRemoteAddr();
+        if (!ipLimiter.tryAcquire(ip)) {
+            reject(response, ipLimiter.secondsUntilAvailable(ip));
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES);
+        String email = extractEmail(body);
+        if (email != null && !emailLimiter.tryAcquire(email)) {
+            reject(response, emailLimiter.secondsUntilAvailable(email));
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    @Scheduled(fixedDelayString = "${security.rate-limit.sweep-interval-ms:30000}")
+    public void evictIdleBuckets() {
+        ipLimiter.evictIdle();
+        emailLimiter.evictIdle();
+    }
+
+    private String extractEmail(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).get("email");
+            return email != null && email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException | RuntimeException e) {
+            // Malformed bodies are rejected by request validation further down the chain
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now().toString());
+        body.put("message", "Too many attempts, please try again later");
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfterSeconds)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /** Replays a body that has already been read so the controller can bind it. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    // The body is already buffered, so all of it is available at once
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
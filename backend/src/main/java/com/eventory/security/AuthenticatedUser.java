@@ -0,0 +1,31 @@
+package com.eventory.security;
+
+import lombok.Getter;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+/**
+ * Principal built from verified access-token claims, so handlers can read the caller's
+ * id, name and role without loading the user row.
+ */
+@Getter
+public class AuthenticatedUser extends User {
+
+    private final String id;
+    private final String name;
+    private final String role;
+
+    public AuthenticatedUser(VerifiedToken token) {
+        super(token.subject(), "", Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + token.role())));
+        this.id = token.userId();
+        this.name = token.name();
+        this.role = token.role();
+    }
+
+    /** Whether the token carried the full profile rather than just a subject and role. */
+    public boolean hasProfileClaims() {
+        return id != null && name != null;
+    }
+}
@@ -1,30 +1,78 @@
 package com.eventory.security;
 
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.CacheStats;
+import com.eventory.cache.ExpiringLruCache;
 import com.eventory.model.User;
 import com.eventory.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
+    public static final String CACHE_NAME = "userDetails";
+
     private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final ExpiringLruCache<String, CachedUser> cache;
+    private final Clock clock;
+    private final long ttlMillis;
+
+    @Autowired
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    CacheInvalidationBus invalidationBus,
+                                    @Value("${security.user-cache.max-size:10000}") int maxSize,
+                                    @Value("${security.user-cache.ttl:5m}") Duration ttl) {
+        this(userRepository, invalidationBus, maxSize, ttl, Clock.systemUTC());
+    }
+
+    CustomUserDetailsService(UserRepository userRepository, CacheInvalidationBus invalidationBus,
+                             int maxSize, Duration ttl, Clock clock) {
+        this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.cache = new ExpiringLruCache<>(maxSize, clock);
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        invalidationBus.subscribe(CACHE_NAME, cache::invalidate);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+        CachedUser cached = cache.get(email);
+        if (cached == null) {
+            User user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+            cached = new CachedUser(user.getEmail(), user.getPasswordHash(), user.getRole());
+            cache.put(email, cached, clock.millis() + ttlMillis);
+        }
 
+        // Always hand out a fresh instance: Spring Security erases credentials on the
+        // principal after authentication, which must not leak into the cache.
         return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPasswordHash(),
-                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())));
+                cached.email(),
+                cached.passwordHash(),
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + cached.role().name())));
+    }
+
+    /** Drops {@code email} from this cache on every node. */
+    public void invalidate(String email) {
+        invalidationBus.publish(CACHE_NAME, email);
+    }
+
+    public CacheStats cacheStats() {
+        return cache.stats();
+    }
+
+    private record CachedUser(String email, String passwordHash, User.Role role) {
     }
 }
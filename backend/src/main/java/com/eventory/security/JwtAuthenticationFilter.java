@@ -7,7 +7,9 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -15,13 +17,25 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.function.Supplier;
 
+/**
+ * Resolves the bearer token lazily: the token is only verified the first time something in
+ * the request asks for the security context, so {@code permitAll} routes that never look at
+ * the caller skip the work entirely.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationList tokenRevocationList;
+
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
     @Override
     protected void doFilterInternal(
@@ -29,36 +43,75 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
+        final String jwt = authHeader.substring(7);
+        Supplier<SecurityContext> previous = securityContextHolderStrategy.getDeferredContext();
+        securityContextHolderStrategy.setDeferredContext(new LazySecurityContext(() -> {
+            SecurityContext context = previous.get();
+            if (context.getAuthentication() == null) {
+                authenticate(jwt, request, context);
+            }
+            return context;
+        }));
+
+        filterChain.doFilter(request, response);
+    }
 
+    private void authenticate(String jwt, HttpServletRequest request, SecurityContext context) {
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            VerifiedToken token = verifiedTokenCache.verify(jwt);
 
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
+            if (token.subject() != null && !tokenRevocationList.isRevoked(token)) {
+                UserDetails userDetails = resolveUser(token);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (jwtService.isTokenValid(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
                             userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                    authToken.setDetails(authenticationDetailsSource.buildDetails(request));
+                    context.setAuthentication(authToken);
                 }
             }
         } catch (Exception e) {
             // Invalid token - continue without authentication
             logger.debug("JWT validation failed: " + e.getMessage());
         }
+    }
 
-        filterChain.doFilter(request, response);
+    private UserDetails resolveUser(VerifiedToken token) {
+        if (token.role() == null) {
+            // Token minted before roles were embedded in claims
+            return userDetailsService.loadUserByUsername(token.subject());
+        }
+        return new AuthenticatedUser(token);
+    }
+
+    /**
+     * Computes the context once; the holder strategy would otherwise re-run the supplier on every read.
+     * Confined to the request thread, and deliberately not synchronized so a fallback user lookup
+     * does not pin a virtual thread's carrier.
+     */
+    private static final class LazySecurityContext implements Supplier<SecurityContext> {
+
+        private final Supplier<SecurityContext> delegate;
+        private SecurityContext context;
+
+        LazySecurityContext(Supplier<SecurityContext> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public SecurityContext get() {
+            if (context == null) {
+                context = delegate.get();
+            }
+            return context;
+        }
     }
 }
@@ -1,29 +1,47 @@
 package com.eventory.security;
 
-import io.jsonwebtoken.*;
+import com.eventory.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Service
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String NAME_CLAIM = "name";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    private final long jwtExpiration;
+
+    // Derived once: both are immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${jwt.secret}") String secretKey,
+                      @Value("${jwt.expiration}") long jwtExpiration) {
+        this.jwtExpiration = jwtExpiration;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return verify(token).subject();
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -36,44 +54,73 @@ public class JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        return buildToken(extraClaims, userDetails, jwtExpiration);
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .findFirst()
+                .ifPresent(authority -> claims.putIfAbsent(ROLE_CLAIM, authority.substring("ROLE_".length())));
+        return buildToken(claims, userDetails.getUsername(), jwtExpiration);
+    }
+
+    /** Mints an access token carrying enough claims to describe {@code user} without a database lookup. */
+    public String generateToken(User user) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(USER_ID_CLAIM, user.getId().toString());
+        claims.put(NAME_CLAIM, user.getName());
+        return buildToken(claims, user.getEmail(), jwtExpiration);
     }
 
-    private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
+    public long getExpirationMillis() {
+        return jwtExpiration;
+    }
+
+    private String buildToken(Map<String, Object> extraClaims, String subject, long expiration) {
+        long now = System.currentTimeMillis();
         return Jwts
                 .builder()
                 .claims(extraClaims)
-                .subject(userDetails.getUsername())
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    /**
+     * Verifies the signature and expiry of {@code token} and returns its claims.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verify(String token) {
+        Claims claims = extractAllClaims(token);
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, String.class),
+                claims.get(NAME_CLAIM, String.class),
+                claims.get(ROLE_CLAIM, String.class),
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(verify(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.subject() != null
+                && token.subject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
     }
 }
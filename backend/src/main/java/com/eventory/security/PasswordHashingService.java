@@ -0,0 +1,117 @@
+package com.eventory.security;
+
+import com.eventory.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, fixed-size pool with a bounded queue
+ * so a login storm cannot tie up every request thread. When the queue is full, work is
+ * rejected immediately with {@link ServiceUnavailableException}.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    // Checked against when an account does not exist so it takes as long to reject as a wrong password
+    private volatile String dummyHash;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Value("${security.hashing.threads:0}") int threads,
+                                  @Value("${security.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${security.hashing.timeout:5s}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeout.toMillis();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks {@code rawPassword} against {@code encodedPassword}. A {@code null} hash never
+     * matches but still costs a full comparison.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (encodedPassword == null) {
+            execute(() -> passwordEncoder.matches(rawPassword, dummyHash()));
+            return false;
+        }
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Runs {@code work} on the hashing pool and waits for its result. Exceptions thrown by
+     * the work are rethrown as-is.
+     */
+    public <T> T execute(Supplier<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work::get);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("Too many authentication requests, please retry shortly", e);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException("Authentication timed out, please retry shortly", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Authentication was interrupted", e);
+        }
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    public int getQueuedTaskCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,94 @@
+package com.eventory.security;
+
+import com.eventory.exception.InvalidTokenException;
+import com.eventory.model.RefreshToken;
+import com.eventory.model.User;
+import com.eventory.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Issues opaque, single-use refresh tokens. Each refresh revokes the presented token and issues
+ * a successor in the same family; presenting an already-rotated token is treated as theft and
+ * revokes the whole family.
+ */
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID());
+    }
+
+    // Only commits the revocation of the family when reuse is detected
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public Rotation rotate(String rawToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.getExpiresAt().isBefore(now)) {
+            throw new InvalidTokenException("Refresh token expired");
+        }
+        if (current.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(current.getId(), now) == 0) {
+            refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+            throw new InvalidTokenException("Refresh token has already been used");
+        }
+
+        String next = issue(current.getUser(), current.getFamilyId());
+        return new Rotation(current.getUser(), next);
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(TokenDigest.sha256(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+
+    /** Ends every session of the user with {@code email}. */
+    @Transactional
+    public void revokeAll(String email) {
+        refreshTokenRepository.revokeAllForUser(email, LocalDateTime.now());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 17 3 * * *}")
+    public void purgeExpired() {
+        refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now());
+    }
+
+    private String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(TokenDigest.sha256(rawToken))
+                .familyId(familyId)
+                .expiresAt(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)))
+                .build());
+        return rawToken;
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
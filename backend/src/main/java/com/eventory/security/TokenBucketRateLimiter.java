@@ -0,0 +1,113 @@
+package com.eventory.security;
+
+import java.time.Clock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * Lock-free token buckets keyed by an arbitrary string (client IP, account email...).
+ *
+ * <p>Each bucket is a single {@code long}: the upper 42 bits hold the last refill time in
+ * milliseconds since the limiter was created, the lower 22 bits hold the available permits in
+ * thousandths. Buckets are updated with a CAS loop, so there is no locking and each key costs
+ * one small object plus its map entry. Buckets that have refilled completely carry no state
+ * worth keeping and are dropped by {@link #evictIdle()}.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int PERMIT_BITS = 22;
+    private static final long PERMIT_MASK = (1L << PERMIT_BITS) - 1;
+    private static final long MILLI_PERMITS_PER_PERMIT = 1000;
+
+    private final long capacity;          // in milli-permits
+    private final long refillPerSecond;   // in milli-permits
+    private final long millisToFull;
+    private final long epochMillis;
+    private final Clock clock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, Clock clock) {
+        if (capacity <= 0 || capacity * MILLI_PERMITS_PER_PERMIT > PERMIT_MASK) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + PERMIT_MASK / MILLI_PERMITS_PER_PERMIT);
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+        this.capacity = capacity * MILLI_PERMITS_PER_PERMIT;
+        this.refillPerSecond = Math.max(1, Math.round(refillPerSecond * MILLI_PERMITS_PER_PERMIT));
+        this.millisToFull = this.capacity * 1000 / this.refillPerSecond;
+        this.clock = clock;
+        this.epochMillis = clock.millis();
+    }
+
+    /** Takes one permit for {@code key}, returning {@code false} if its bucket is empty. */
+    public boolean tryAcquire(String key) {
+        Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(pack(now(), capacity)));
+        long now = now();
+        while (true) {
+            long state = bucket.state;
+            long added = refillSince(state, now);
+            long permits = Math.min(capacity, permitsOf(state) + added);
+            // Only move the clock forward when at least one milli-permit was credited
+            long refilledAt = added > 0 ? now : timeOf(state);
+            if (permits < MILLI_PERMITS_PER_PERMIT) {
+                return false;
+            }
+            if (Bucket.STATE.compareAndSet(bucket, state, pack(refilledAt, permits - MILLI_PERMITS_PER_PERMIT))) {
+                return true;
+            }
+        }
+    }
+
+    /** Seconds until {@code key} has a permit again, rounded up; 0 if one is available. */
+    public long secondsUntilAvailable(String key) {
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            return 0;
+        }
+        long state = bucket.state;
+        long missing = MILLI_PERMITS_PER_PERMIT - (permitsOf(state) + refillSince(state, now()));
+        return missing <= 0 ? 0 : (missing * 1000 / refillPerSecond + 999) / 1000;
+    }
+
+    /** Drops buckets that have been idle long enough to be full again. */
+    public void evictIdle() {
+        long now = now();
+        buckets.entrySet().removeIf(entry -> now - timeOf(entry.getValue().state) >= millisToFull);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private long refillSince(long state, long now) {
+        long elapsed = Math.max(0, now - timeOf(state));
+        return elapsed * refillPerSecond / 1000;
+    }
+
+    private long now() {
+        return clock.millis() - epochMillis;
+    }
+
+    private static long pack(long time, long permits) {
+        return (time << PERMIT_BITS) | permits;
+    }
+
+    private static long timeOf(long state) {
+        return state >>> PERMIT_BITS;
+    }
+
+    private static long permitsOf(long state) {
+        return state & PERMIT_MASK;
+    }
+
+    private static final class Bucket {
+        static final AtomicLongFieldUpdater<Bucket> STATE = AtomicLongFieldUpdater.newUpdater(Bucket.class, "state");
+
+        volatile long state;
+
+        Bucket(long state) {
+            this.state = state;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.eventory.security;
+
+import com.eventory.cache.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of revoked access-token ids ({@code jti}) and per-user revocation cutoffs, both
+ * checked in O(1) on every request.
+ *
+ * <p>Entries only need to outlive the tokens they revoke, and access tokens are short-lived, so
+ * the sets stay small and are purged on a schedule. Revocations are broadcast over the
+ * {@link CacheInvalidationBus} so every node rejects the token.
+ */
+@Component
+public class TokenRevocationList {
+
+    public static final String CHANNEL = "revokedTokens";
+    public static final String USER_CHANNEL = "revokedUsers";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final Clock clock;
+    private final long accessTokenTtlMillis;
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final Map<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TokenRevocationList(CacheInvalidationBus invalidationBus,
+                               @Value("${jwt.expiration}") long accessTokenTtlMillis) {
+        this(invalidationBus, accessTokenTtlMillis, Clock.systemUTC());
+    }
+
+    TokenRevocationList(CacheInvalidationBus invalidationBus, long accessTokenTtlMillis, Clock clock) {
+        this.invalidationBus = invalidationBus;
+        this.clock = clock;
+        this.accessTokenTtlMillis = accessTokenTtlMillis;
+        invalidationBus.subscribe(CHANNEL, this::onRevoked);
+        invalidationBus.subscribe(USER_CHANNEL, this::onUserRevoked);
+    }
+
+    public void revoke(VerifiedToken token) {
+        if (token.id() == null || token.expiresAt() == null) {
+            return;
+        }
+        invalidationBus.publish(CHANNEL, token.expiresAt().toEpochMilli() + ":" + token.id());
+    }
+
+    /**
+     * Rejects every access token already issued to {@code subject}. Call it whenever the user's
+     * password or role changes, or the user signs out everywhere, so old tokens stop working
+     * at once rather than at their expiry.
+     *
+     * <p>{@code iat} only has second precision, so a token issued later in the same second is
+     * rejected too.
+     */
+    public void revokeAllFor(String subject) {
+        long cutoff = clock.instant().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1).toEpochMilli();
+        invalidationBus.publish(USER_CHANNEL, cutoff + ":" + subject);
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (token.id() != null && revoked.containsKey(token.id())) {
+            return true;
+        }
+        Long cutoff = token.subject() != null ? revokedBefore.get(token.subject()) : null;
+        return cutoff != null && (token.issuedAt() == null || token.issuedAt().toEpochMilli() < cutoff);
+    }
+
+    public int size() {
+        return revoked.size() + revokedBefore.size();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = clock.millis();
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        // Every token issued before the cutoff has expired a full lifetime after it
+        revokedBefore.values().removeIf(cutoff -> cutoff + accessTokenTtlMillis <= now);
+    }
+
+    private void onRevoked(String message) {
+        int separator = message.indexOf(':');
+        long expiresAt = Long.parseLong(message.substring(0, separator));
+        revoked.put(message.substring(separator + 1), expiresAt);
+    }
+
+    private void onUserRevoked(String message) {
+        int separator = message.indexOf(':');
+        long cutoff = Long.parseLong(message.substring(0, separator));
+        revokedBefore.merge(message.substring(separator + 1), cutoff, Math::max);
+    }
+}
@@ -0,0 +1,59 @@
+package com.eventory.security;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.model.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts cached {@link org.springframework.security.core.userdetails.UserDetails} whenever a
+ * {@link User} row is written, so role, password and interest changes are seen immediately
+ * rather than after the cache TTL. A deleted user's access tokens are revoked as well, and so are
+ * a user's tokens when their role or password changes, since tokens carry the role as a claim.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+
+    private final CacheInvalidationBus invalidationBus;
+    private final TokenRevocationList tokenRevocationList;
+
+    @PostUpdate
+    public void onUserChanged(User user) {
+        String email = user.getEmail();
+        boolean credentialsChanged = user.credentialsChanged();
+        afterCommit(() -> {
+            invalidationBus.publish(CustomUserDetailsService.CACHE_NAME, email);
+            if (credentialsChanged) {
+                tokenRevocationList.revokeAllFor(email);
+            }
+        });
+    }
+
+    @PostRemove
+    public void onUserRemoved(User user) {
+        String email = user.getEmail();
+        afterCommit(() -> {
+            invalidationBus.publish(CustomUserDetailsService.CACHE_NAME, email);
+            tokenRevocationList.revokeAllFor(email);
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Invalidate after commit so a concurrent load can't re-cache the old row
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.eventory.security;
+
+import java.time.Instant;
+
+/**
+ * Claims of a JWT whose signature has already been checked. Built once per
+ * token so callers never have to parse the compact string again.
+ *
+ * @param id     the {@code jti} claim, used for revocation
+ * @param userId the user's id, or {@code null} for tokens minted before it was embedded
+ * @param name   the user's display name at issue time, or {@code null} likewise
+ * @param role   the user's role at issue time, or {@code null} for tokens minted before roles were embedded
+ */
+public record VerifiedToken(String id, String subject, String userId, String name, String role,
+                            Instant issuedAt, Instant expiresAt) {
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,51 @@
+package com.eventory.security;
+
+import com.eventory.cache.CacheStats;
+import com.eventory.cache.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers tokens whose signature has already been checked, keyed by a SHA-256 digest
+ * of the compact token so raw bearer tokens are never held in memory. Each entry lives
+ * until the token's own {@code exp}.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final ExpiringLruCache<String, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtService = jwtService;
+        this.cache = new ExpiringLruCache<>(maxSize);
+    }
+
+    /**
+     * Returns the verified claims for {@code token}, doing signature work only on a cache miss.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is not cached and fails verification
+     */
+    public VerifiedToken verify(String token) {
+        String key = TokenDigest.sha256(token);
+        VerifiedToken cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        VerifiedToken verified = jwtService.verify(token);
+        if (verified.expiresAt() != null) {
+            cache.put(key, verified, verified.expiresAt().toEpochMilli());
+        }
+        return verified;
+    }
+
+    public void evict(String token) {
+        cache.invalidate(TokenDigest.sha256(token));
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
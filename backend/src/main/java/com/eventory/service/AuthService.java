@@ -2,34 +2,44 @@ package com.eventory.service;
 
 import com.eventory.dto.AuthResponse;
 import com.eventory.dto.LoginRequest;
+import com.eventory.dto.RefreshTokenRequest;
 import com.eventory.dto.RegisterRequest;
+import com.eventory.exception.ConflictException;
 import com.eventory.model.User;
 import com.eventory.repository.UserRepository;
 import com.eventory.security.JwtService;
+import com.eventory.security.PasswordHashingService;
+import com.eventory.security.RefreshTokenService;
+import com.eventory.security.TokenRevocationList;
+import com.eventory.security.VerifiedToken;
+import com.eventory.security.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // Hashes before the transaction starts so no pooled connection is held while waiting on the hashing pool
     public AuthResponse register(RegisterRequest request) {
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new RuntimeException("Email already registered");
-        }
+        String passwordHash = passwordHashingService.encode(request.getPassword());
 
         User.Role role = User.Role.ATTENDEE;
         if (request.getRole() != null && !request.getRole().isEmpty()) {
@@ -43,40 +53,66 @@ public class AuthService {
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .passwordHash(passwordEncoder.encode(request.getPassword()))
+                .passwordHash(passwordHash)
                 .role(role)
                 .interests(request.getInterests())
                 .build();
 
-        user = userRepository.save(user);
-
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtService.generateToken(userDetails);
-
-        return AuthResponse.builder()
-                .token(token)
-                .user(AuthResponse.UserResponse.fromUser(user))
-                .build();
+        try {
+            // The user and its first session commit together; the unique index on email rejects duplicates
+            return transactionTemplate.execute(status -> {
+                User saved = userRepository.saveAndFlush(user);
+                return issueTokens(saved, refreshTokenService.issue(saved));
+            });
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new ConflictException("Email already registered");
+            }
+            throw e;
+        }
     }
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()));
+        User user = userRepository.findByEmail(request.getEmail()).orElse(null);
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new RuntimeException("User not found"));
+        // Unknown emails still pay for a hash comparison so they cannot be told apart by timing
+        boolean matches = passwordHashingService.matches(
+                request.getPassword(), user != null ? user.getPasswordHash() : null);
+        if (user == null || !matches) {
+            throw new BadCredentialsException("Invalid email or password");
+        }
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtService.generateToken(userDetails);
+        return issueTokens(user, refreshTokenService.issue(user));
+    }
 
-        return AuthResponse.builder()
-                .token(token)
-                .user(AuthResponse.UserResponse.fromUser(user))
-                .build();
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        return issueTokens(rotation.user(), rotation.refreshToken());
     }
 
+    /** Ends the session behind {@code refreshToken} and, if given, revokes the presented access token. */
+    public void logout(String refreshToken, String accessToken) {
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+        if (accessToken != null) {
+            try {
+                VerifiedToken token = verifiedTokenCache.verify(accessToken);
+                tokenRevocationList.revoke(token);
+                verifiedTokenCache.evict(accessToken);
+            } catch (JwtException e) {
+                // Already invalid or expired: nothing left to revoke
+            }
+        }
+    }
+
+    /** Ends every session of {@code email} and rejects all access tokens already issued to it. */
+    public void logoutAll(String email) {
+        refreshTokenService.revokeAll(email);
+        tokenRevocationList.revokeAllFor(email);
+    }
+
+    @Transactional(readOnly = true)
     public User getCurrentUser(String email) {
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -88,4 +124,28 @@ public class AuthService {
         user.setInterests(interests);
         return userRepository.save(user);
     }
+
+    /**
+     * Whether {@code e} is a unique-key violation ({@code 23505} in both PostgreSQL and H2). Email is the
+     * only unique key a new user can collide on.
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AuthResponse issueTokens(User user, String refreshToken) {
+        String token = jwtService.generateToken(user);
+
+        return AuthResponse.builder()
+                .token(token)
+                .refreshToken(refreshToken)
+                .expiresIn(jwtService.getExpirationMillis() / 1000)
+                .user(AuthResponse.UserResponse.fromUser(user))
+                .build();
+    }
 }
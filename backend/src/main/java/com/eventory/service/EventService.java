@@ -1,41 +1,71 @@
 package com.eventory.service;
 
+import com.eventory.analytics.ActivityRollups;
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventSchedule;
 import com.eventory.dto.CreateEventRequest;
+import com.eventory.dto.EventAnalyticsResponse;
 import com.eventory.dto.EventResponse;
+import com.eventory.dto.SuggestionResponse;
+import com.eventory.feed.ForYouFeed;
+import com.eventory.feed.TrendingFeed;
+import com.eventory.feed.UserInterests;
 import com.eventory.model.Event;
 import com.eventory.model.User;
 import com.eventory.repository.EventRepository;
 import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.RsvpRepository.EventRsvpCount;
 import com.eventory.repository.UserRepository;
+import com.eventory.search.EventSearchIndex;
+import com.eventory.search.SuggestionIndex;
+import com.eventory.util.GeoUtils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class EventService {
 
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_FOR_YOU_RESULTS = 100;
+    /** Keeps the id-IN fetch well inside the database's bind-parameter limit. */
+    public static final int MAX_WINDOW_RESULTS = 100;
+
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final RsvpRepository rsvpRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final EventSchedule eventSchedule;
+    private final AttendeeCounts attendeeCounts;
+    private final ActivityRollups activityRollups;
+    private final ForYouFeed forYouFeed;
+    private final TrendingFeed trendingFeed;
+    private final UserInterests userInterests;
 
+    @Transactional(readOnly = true)
     public List<EventResponse> getUpcomingEvents() {
-        return eventRepository.findUpcomingEvents(LocalDateTime.now()).stream()
-                .map(event -> EventResponse.fromEvent(event, rsvpRepository.countByEventId(event.getId())))
-                .collect(Collectors.toList());
+        return toResponses(eventRepository.findUpcomingEvents(feedCutoff()));
     }
 
+    @Transactional(readOnly = true)
     public List<EventResponse> getEventsByCategory(String category) {
-        return eventRepository.findUpcomingEventsByCategory(category, LocalDateTime.now()).stream()
-                .map(event -> EventResponse.fromEvent(event, rsvpRepository.countByEventId(event.getId())))
-                .collect(Collectors.toList());
+        return toResponses(eventRepository.findUpcomingEventsByCategory(category, feedCutoff()));
     }
 
+    @Transactional(readOnly = true)
     public List<EventResponse> getEventsNearby(Double lat, Double lng, Double radiusKm, String category) {
         List<Event> events;
         if (category != null && !category.isEmpty()) {
@@ -44,17 +74,152 @@ public class EventService {
         } else {
             events = eventRepository.findEventsWithinRadius(lat, lng, radiusKm, LocalDateTime.now());
         }
-        return events.stream()
-                .map(event -> EventResponse.fromEvent(event, rsvpRepository.countByEventId(event.getId())))
-                .collect(Collectors.toList());
+        return toResponses(events);
     }
 
+    /**
+     * The first {@code limit} events by start time under way at some point between {@code from}
+     * and {@code to}, including ones that have started; either end left out means now and
+     * open-ended respectively. The schedule only holds events that have not finished, so a window
+     * ending in the past is rejected rather than answered with nothing.
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsInWindow(LocalDateTime from, LocalDateTime to, String category, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from != null ? from : now;
+        LocalDateTime end = to != null ? to : LocalDateTime.MAX;
+        if (start.isAfter(end)) {
+            throw new RuntimeException("Window start must not be after its end");
+        }
+        if (end.isBefore(now)) {
+            throw new RuntimeException("Window end must not be in the past");
+        }
+        return toResponses(findRanked(first(eventSchedule.overlapping(start, end, emptyToNull(category)), limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsHappeningNow(String category, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        return toResponses(findRanked(first(eventSchedule.overlapping(now, now, emptyToNull(category)), limit)));
+    }
+
+    @Transactional(readOnly = true)
     public EventResponse getEventById(UUID eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
         return EventResponse.fromEvent(event, rsvpRepository.countByEventId(event.getId()));
     }
 
+    /** RSVPs, cancellations and check-ins of one of the organizer's events over time. */
+    @Transactional(readOnly = true)
+    public EventAnalyticsResponse getEventAnalytics(UUID eventId, String organizerEmail) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+
+        if (!event.getOrganizer().getEmail().equals(organizerEmail)) {
+            throw new RuntimeException("You can only view analytics for your own events");
+        }
+
+        return EventAnalyticsResponse.fromActivity(eventId.toString(), activityRollups.series(eventId));
+    }
+
+    /** Full-text search over upcoming events, optionally narrowed to a category and a radius. */
+    @Transactional(readOnly = true)
+    public List<EventResponse> searchEvents(String query, String category, Double lat, Double lng, Double radiusKm,
+                                            int limit) {
+        if (query == null || query.isBlank()) {
+            throw new RuntimeException("Search query must not be blank");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Predicate<CatalogEntry> filter = entry -> !entry.startTime().isBefore(now);
+        if (category != null && !category.isEmpty()) {
+            filter = filter.and(entry -> entry.category().equalsIgnoreCase(category));
+        }
+        if (lat != null && lng != null) {
+            filter = filter.and(entry ->
+                    GeoUtils.distanceKm(lat, lng, entry.latitude(), entry.longitude()) <= radiusKm);
+        }
+
+        return toRankedResponses(eventSearchIndex.search(query, filter, Math.min(limit, MAX_SEARCH_RESULTS)).stream()
+                .map(EventSearchIndex.Hit::eventId)
+                .toList());
+    }
+
+    /** Titles, venues and categories of upcoming events with a word starting with {@code prefix}, most popular first. */
+    public List<SuggestionResponse> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new RuntimeException("Suggestion prefix must not be blank");
+        }
+        return suggestionIndex.suggest(prefix, Math.min(limit, SuggestionIndex.MAX_SUGGESTIONS)).stream()
+                .map(SuggestionResponse::fromSuggestion)
+                .toList();
+    }
+
+    /** Upcoming events ranked by the user's interests and, when given, their location. */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getForYouEvents(String userEmail, Double lat, Double lng, int limit) {
+        int interests = userInterests.mask(userEmail);
+        return toRankedResponses(forYouFeed.top(interests, lat, lng, Math.min(limit, MAX_FOR_YOU_RESULTS)).stream()
+                .map(ForYouFeed.Hit::eventId)
+                .toList());
+    }
+
+    /** Upcoming events that gained the most RSVPs over the last {@code window}: "hour" or "day". */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getTrendingEvents(String window, int limit) {
+        return toRankedResponses(trendingFeed.top(TrendingFeed.Window.parse(window), limit).stream()
+                .map(TrendingFeed.Hit::eventId)
+                .toList());
+    }
+
+    /**
+     * Rankings over the catalog only hold upcoming events, whose attendee counts {@link AttendeeCounts}
+     * already keeps, so they need no count over rsvps.
+     */
+    private List<EventResponse> toRankedResponses(List<UUID> ids) {
+        return findRanked(ids).stream()
+                .map(event -> EventResponse.fromEvent(event, attendeeCounts.get(event.getId())))
+                .toList();
+    }
+
+    private List<Event> findRanked(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Event> events = eventRepository.findAllWithOrganizerByIdIn(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        // Keep the ranking; an event deleted since it was ranked is simply skipped
+        return ids.stream().map(events::get).filter(Objects::nonNull).toList();
+    }
+
+    private List<EventResponse> toResponses(List<Event> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+        Map<UUID, Long> counts = rsvpRepository.countByEventIds(events.stream().map(Event::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(EventRsvpCount::getEventId, EventRsvpCount::getCount));
+        return events.stream()
+                .map(event -> EventResponse.fromEvent(event, counts.getOrDefault(event.getId(), 0L)))
+                .collect(Collectors.toList());
+    }
+
+    private static List<UUID> first(List<UUID> ids, int limit) {
+        if (limit < 1) {
+            throw new RuntimeException("limit must be at least 1");
+        }
+        return ids.subList(0, Math.min(ids.size(), Math.min(limit, MAX_WINDOW_RESULTS)));
+    }
+
+    private static String emptyToNull(String category) {
+        return category == null || category.isEmpty() ? null : category;
+    }
+
+    // Whole minutes so the feed queries share query-cache entries instead of missing on every call
+    private static LocalDateTime feedCutoff() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+    }
+
     @Transactional
     public EventResponse createEvent(CreateEventRequest request, String organizerEmail) {
         User organizer = userRepository.findByEmail(organizerEmail)
@@ -120,12 +285,11 @@ public class EventService {
         eventRepository.delete(event);
     }
 
+    @Transactional(readOnly = true)
     public List<EventResponse> getOrganizerEvents(String organizerEmail) {
         User organizer = userRepository.findByEmail(organizerEmail)
                 .orElseThrow(() -> new RuntimeException("Organizer not found"));
 
-        return eventRepository.findByOrganizerId(organizer.getId()).stream()
-                .map(event -> EventResponse.fromEvent(event, rsvpRepository.countByEventId(event.getId())))
-                .collect(Collectors.toList());
+        return toResponses(eventRepository.findByOrganizerId(organizer.getId()));
     }
 }
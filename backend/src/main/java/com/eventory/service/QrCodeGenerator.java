@@ -0,0 +1,18 @@
+package com.eventory.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Builds the ticket code an RSVP's QR image encodes: prefixes of the event and user ids plus a
+ * random suffix, so codes are unique per ticket and cannot be derived from the ids alone.
+ */
+@Component
+public class QrCodeGenerator {
+
+    public String generate(UUID eventId, UUID userId) {
+        return String.format("EVENTORY-%s-%s-%s", eventId.toString().substring(0, 8),
+                userId.toString().substring(0, 8), UUID.randomUUID().toString().substring(0, 8));
+    }
+}
@@ -23,6 +23,7 @@ public class RsvpService {
     private final RsvpRepository rsvpRepository;
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final QrCodeGenerator qrCodeGenerator;
 
     @Transactional
     public RsvpResponse createRsvp(UUID eventId, String userEmail) {
@@ -37,8 +38,9 @@ public class RsvpService {
             throw new RuntimeException("You have already RSVPed to this event");
         }
 
-        // Check capacity
+        // Check capacity, holding the event row so concurrent RSVPs cannot all see the last seat
         if (event.getMaxAttendees() != null) {
+            eventRepository.lockById(eventId);
             long currentCount = rsvpRepository.countByEventId(eventId);
             if (currentCount >= event.getMaxAttendees()) {
                 throw new RuntimeException("Event is at full capacity");
@@ -46,7 +48,7 @@ public class RsvpService {
         }
 
         // Generate unique QR code
-        String qrCode = generateQrCode(eventId, user.getId());
+        String qrCode = qrCodeGenerator.generate(eventId, user.getId());
 
         Rsvp rsvp = Rsvp.builder()
                 .event(event)
@@ -59,6 +61,7 @@ public class RsvpService {
         return RsvpResponse.fromRsvp(rsvp);
     }
 
+    @Transactional(readOnly = true)
     public RsvpResponse getRsvpByQrCode(String qrCode) {
         Rsvp rsvp = rsvpRepository.findByQrCode(qrCode)
                 .orElseThrow(() -> new RuntimeException("RSVP not found"));
@@ -86,6 +89,7 @@ public class RsvpService {
         return RsvpResponse.fromRsvp(rsvp);
     }
 
+    @Transactional(readOnly = true)
     public List<RsvpResponse> getUserRsvps(String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -95,6 +99,7 @@ public class RsvpService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public List<RsvpResponse> getEventRsvps(UUID eventId, String organizerEmail) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new RuntimeException("Event not found"));
@@ -108,6 +113,7 @@ public class RsvpService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public RsvpResponse getUserRsvpForEvent(UUID eventId, String userEmail) {
         User user = userRepository.findByEmail(userEmail)
                 .orElseThrow(() -> new RuntimeException("User not found"));
@@ -133,15 +139,12 @@ public class RsvpService {
         rsvpRepository.delete(rsvp);
     }
 
-    private String generateQrCode(UUID eventId, UUID userId) {
-        return String.format("EVENTORY-%s-%s-%s", eventId.toString().substring(0, 8),
-                userId.toString().substring(0, 8), UUID.randomUUID().toString().substring(0, 8));
-    }
-
+    @Transactional(readOnly = true)
     public long getEventAttendeeCount(UUID eventId) {
         return rsvpRepository.countByEventId(eventId);
     }
 
+    @Transactional(readOnly = true)
     public long getEventCheckedInCount(UUID eventId) {
         return rsvpRepository.countCheckedInByEventId(eventId);
     }
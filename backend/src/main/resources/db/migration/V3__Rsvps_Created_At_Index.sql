@@ -0,0 +1,3 @@
+-- Lets the trending feed replay the last day of RSVPs at startup without
+-- scanning the whole table.
+CREATE INDEX idx_rsvps_created_at ON rsvps(created_at);
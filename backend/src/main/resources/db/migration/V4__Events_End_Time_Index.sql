@@ -0,0 +1,3 @@
+-- Lets the event schedule load the events that have not yet ended at startup
+-- without scanning past ones.
+CREATE INDEX idx_events_end_time ON events(end_time);
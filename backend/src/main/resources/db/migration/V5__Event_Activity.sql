@@ -0,0 +1,35 @@
+-- Per-event RSVP, cancellation and check-in counts, by minute for the last
+-- hours and compacted into hour and then day buckets as they age.
+CREATE TABLE event_activity (
+    event_id UUID NOT NULL REFERENCES events(id) ON DELETE CASCADE,
+    resolution VARCHAR(10) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    rsvps INTEGER NOT NULL DEFAULT 0,
+    cancellations INTEGER NOT NULL DEFAULT 0,
+    check_ins INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (event_id, resolution, bucket_start)
+);
+
+-- Compaction selects one resolution's buckets older than a cutoff
+CREATE INDEX idx_event_activity_resolution_bucket ON event_activity(resolution, bucket_start);
+
+-- Existing RSVPs and check-ins: days before today as day buckets, and today by the minute, so
+-- the minute buckets flushed from now on never overlap a day bucket and compaction rolls today up
+-- like any other day. Cancellations before now are not recorded anywhere.
+INSERT INTO event_activity (event_id, resolution, bucket_start, rsvps, cancellations, check_ins)
+SELECT event_id, resolution, bucket_start, SUM(rsvps), 0, SUM(check_ins)
+FROM (
+    SELECT event_id,
+           CASE WHEN activity_at < CURRENT_DATE THEN 'DAY' ELSE 'MINUTE' END AS resolution,
+           CASE WHEN activity_at < CURRENT_DATE THEN CAST(CAST(activity_at AS DATE) AS TIMESTAMP)
+                ELSE DATE_TRUNC('MINUTE', activity_at) END AS bucket_start,
+           rsvps, check_ins
+    FROM (
+        SELECT event_id, created_at AS activity_at, 1 AS rsvps, 0 AS check_ins
+        FROM rsvps
+        UNION ALL
+        SELECT event_id, checked_in_at, 0, 1
+        FROM rsvps WHERE checked_in_at IS NOT NULL
+    ) activity
+) bucketed
+GROUP BY event_id, resolution, bucket_start;
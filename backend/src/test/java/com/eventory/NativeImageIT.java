@@ -0,0 +1,137 @@
+package com.eventory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the native executable over HTTP through registration, event creation, RSVP and check-in,
+ * which exercises the JSON bodies, JPA entities, the second-level cache and JWT signing and
+ * parsing as compiled into the image. Run by {@code mvn -Pnative verify} after the image is built.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class NativeImageIT {
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Process process;
+    private Path log;
+    private String baseUrl;
+    private long startupMillis;
+
+    @BeforeAll
+    void startExecutable() throws Exception {
+        Path executable = Path.of(System.getProperty("native.executable", "target/eventory-backend"));
+        assertTrue(Files.isExecutable(executable), "No native executable at " + executable);
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        log = Files.createTempFile("native-it-", ".log");
+
+        long start = System.nanoTime();
+        process = new ProcessBuilder(executable.toString(), "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(baseUrl + "/api/events")).build();
+        while (true) {
+            assertTrue(process.isAlive(), () -> "Executable exited:\n" + readLog());
+            assertTrue(System.nanoTime() - start < Duration.ofSeconds(30).toNanos(), () -> "No response:\n" + readLog());
+            try {
+                client.send(probe, HttpResponse.BodyHandlers.discarding());
+                break;
+            } catch (IOException notListeningYet) {
+                Thread.sleep(2);
+            }
+        }
+        startupMillis = (System.nanoTime() - start) / 1_000_000;
+    }
+
+    @AfterAll
+    void stopExecutable() throws Exception {
+        if (process != null) {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    @Test
+    void startup_ShouldAnswerFirstRequestWithinBudget() {
+        // Assert
+        long budget = Long.getLong("native.max-startup-ms", 200);
+        assertTrue(startupMillis <= budget, "First response after " + startupMillis + " ms, budget " + budget + " ms");
+    }
+
+    @Test
+    void rsvpFlow_ShouldWorkEndToEnd() throws Exception {
+        // Arrange
+        String suffix = UUID.randomUUID().toString();
+        String organizerToken = register("organizer-" + suffix, "ORGANIZER").get("token").asText();
+        String attendeeToken = register("attendee-" + suffix, "ATTENDEE").get("token").asText();
+        JsonNode event = send("POST", "/api/events", organizerToken, """
+                {"title":"Native launch","latitude":40.7,"longitude":-74.0,"startTime":"2030-01-01T20:00:00",
+                 "endTime":"2030-01-01T23:00:00","category":"tech"}""", 200);
+
+        // Act
+        JsonNode rsvp = send("POST", "/api/events/" + event.get("id").asText() + "/rsvp", attendeeToken, null, 200);
+        JsonNode checkIn = send("POST", "/api/rsvps/checkin", organizerToken,
+                "{\"qrCode\":\"" + rsvp.get("qrCode").asText() + "\"}", 200);
+        JsonNode me = send("GET", "/api/auth/me", attendeeToken, null, 200);
+
+        // Assert
+        assertEquals("Native launch", rsvp.get("eventTitle").asText());
+        assertTrue(checkIn.get("checkedIn").asBoolean());
+        assertEquals("attendee-" + suffix + "@example.com", me.get("email").asText());
+    }
+
+    private JsonNode register(String name, String role) throws Exception {
+        return send("POST", "/api/auth/register", null, """
+                {"name":"%s","email":"%s@example.com","password":"secret1","role":"%s"}"""
+                .formatted(name, name, role), 200);
+    }
+
+    private JsonNode send(String method, String path, String token, String body, int expectedStatus)
+            throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode(), () -> method + " " + path + ": " + response.body());
+        return objectMapper.readTree(response.body());
+    }
+
+    private String readLog() {
+        try {
+            return Files.readString(log);
+        } catch (IOException e) {
+            return "(log unavailable: " + e.getMessage() + ")";
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.eventory.analytics;
+
+import com.eventory.analytics.ActivityRollups.Activity;
+import com.eventory.model.EventActivity;
+import com.eventory.model.EventActivity.Resolution;
+import com.eventory.repository.EventActivityRepository;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRollupsTest {
+
+    @Mock
+    private EventActivityRepository activityRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private ActivityRollups rollups;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-10T12:30:00Z"));
+        rollups = new ActivityRollups(activityRepository, transactionManager,
+                Duration.ofHours(1), Duration.ofDays(2), true, clock);
+        eventId = UUID.randomUUID();
+    }
+
+    @Test
+    void flush_ShouldAddEachMinutesActivityOnce() {
+        // Arrange
+        LocalDateTime minute = now().withSecond(0).withNano(0);
+        rollups.record(eventId, Activity.RSVP, minute.plusSeconds(5));
+        rollups.record(eventId, Activity.RSVP, minute.plusSeconds(50));
+        rollups.record(eventId, Activity.CHECK_IN, minute.plusSeconds(55));
+        rollups.record(eventId, Activity.CANCELLATION, minute.plusMinutes(1));
+
+        // Act
+        rollups.flush();
+        rollups.flush();
+
+        // Assert
+        verify(activityRepository).upsert(eventId, "MINUTE", minute, 2, 0, 1);
+        verify(activityRepository).upsert(eventId, "MINUTE", minute.plusMinutes(1), 0, 1, 0);
+        verifyNoMoreInteractions(activityRepository);
+    }
+
+    @Test
+    void flush_WhenWriteFails_ShouldKeepCountsForNextFlush() {
+        // Arrange
+        LocalDateTime minute = now().withSecond(0).withNano(0);
+        rollups.record(eventId, Activity.RSVP, minute);
+        when(activityRepository.upsert(any(), anyString(), any(), anyInt(), anyInt(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenReturn(1);
+        rollups.flush();
+        rollups.record(eventId, Activity.RSVP, minute);
+
+        // Act
+        rollups.flush();
+
+        // Assert
+        verify(activityRepository).upsert(eventId, "MINUTE", minute, 2, 0, 0);
+    }
+
+    @Test
+    void series_ShouldIncludeActivityNotYetFlushed() {
+        // Arrange
+        LocalDateTime minute = now().withSecond(0).withNano(0);
+        when(activityRepository.findByEventIdOrderByBucketStart(eventId)).thenReturn(List.of(
+                new EventActivity(eventId, Resolution.DAY, minute.minusDays(5).toLocalDate().atStartOfDay(), 40, 2, 0),
+                new EventActivity(eventId, Resolution.MINUTE, minute, 3, 0, 0)));
+        rollups.record(eventId, Activity.RSVP, minute);
+        rollups.record(eventId, Activity.CHECK_IN, minute.plusMinutes(2));
+        rollups.record(UUID.randomUUID(), Activity.RSVP, minute);
+
+        // Act
+        List<EventActivity> series = rollups.series(eventId);
+
+        // Assert
+        assertEquals(List.of(Resolution.DAY, Resolution.MINUTE, Resolution.MINUTE),
+                series.stream().map(EventActivity::getResolution).toList());
+        assertEquals(4, series.get(1).getRsvps());
+        assertEquals(1, series.get(2).getCheckIns());
+    }
+
+    @Test
+    void flush_WithoutOnConflict_ShouldMerge() {
+        // Arrange
+        rollups = new ActivityRollups(activityRepository, transactionManager,
+                Duration.ofHours(1), Duration.ofDays(2), false, clock);
+        LocalDateTime minute = now().withSecond(0).withNano(0);
+        rollups.record(eventId, Activity.RSVP, minute);
+
+        // Act
+        rollups.flush();
+
+        // Assert
+        verify(activityRepository).merge(eventId, "MINUTE", minute, 1, 0, 0);
+        verifyNoMoreInteractions(activityRepository);
+    }
+
+    @Test
+    void compact_ShouldRollAgedMinutesIntoHoursAndAgedHoursIntoDays() {
+        // Arrange
+        LocalDateTime minuteCutoff = LocalDateTime.of(2030, 1, 10, 11, 0);
+        LocalDateTime hourCutoff = LocalDateTime.of(2030, 1, 8, 0, 0);
+        List<EventActivity> minutes = List.of(
+                new EventActivity(eventId, Resolution.MINUTE, LocalDateTime.of(2030, 1, 10, 10, 5), 2, 0, 0),
+                new EventActivity(eventId, Resolution.MINUTE, LocalDateTime.of(2030, 1, 10, 10, 59), 1, 1, 0),
+                new EventActivity(eventId, Resolution.MINUTE, LocalDateTime.of(2030, 1, 10, 9, 0), 0, 0, 4));
+        List<EventActivity> hours = List.of(
+                new EventActivity(eventId, Resolution.HOUR, LocalDateTime.of(2030, 1, 7, 8, 0), 5, 0, 0),
+                new EventActivity(eventId, Resolution.HOUR, LocalDateTime.of(2030, 1, 7, 20, 0), 1, 0, 0));
+        when(activityRepository.findByResolutionAndBucketStartBefore(Resolution.MINUTE, minuteCutoff)).thenReturn(minutes);
+        when(activityRepository.findByResolutionAndBucketStartBefore(Resolution.HOUR, hourCutoff)).thenReturn(hours);
+
+        // Act
+        rollups.compact();
+
+        // Assert
+        verify(activityRepository).upsert(eventId, "HOUR", LocalDateTime.of(2030, 1, 10, 10, 0), 3, 1, 0);
+        verify(activityRepository).upsert(eventId, "HOUR", LocalDateTime.of(2030, 1, 10, 9, 0), 0, 0, 4);
+        verify(activityRepository).deleteAll(minutes);
+        verify(activityRepository).upsert(eventId, "DAY", LocalDateTime.of(2030, 1, 7, 0, 0), 6, 0, 0);
+        verify(activityRepository).deleteAll(hours);
+    }
+
+    @Test
+    void compact_ShouldFoldUnflushedCountsOfCompactedMinutesIntoTheirHour() {
+        // Arrange
+        LocalDateTime minuteCutoff = LocalDateTime.of(2030, 1, 10, 11, 0);
+        List<EventActivity> minutes = List.of(
+                new EventActivity(eventId, Resolution.MINUTE, LocalDateTime.of(2030, 1, 10, 10, 5), 2, 0, 0));
+        when(activityRepository.findByResolutionAndBucketStartBefore(Resolution.MINUTE, minuteCutoff)).thenReturn(minutes);
+        rollups.record(eventId, Activity.RSVP, LocalDateTime.of(2030, 1, 10, 10, 40));
+        rollups.record(eventId, Activity.RSVP, minuteCutoff);
+
+        // Act
+        rollups.compact();
+        rollups.flush();
+
+        // Assert
+        verify(activityRepository).upsert(eventId, "HOUR", LocalDateTime.of(2030, 1, 10, 10, 0), 3, 0, 0);
+        verify(activityRepository).deleteAll(minutes);
+        verify(activityRepository).upsert(eventId, "MINUTE", minuteCutoff, 1, 0, 0);
+        verify(activityRepository, never()).upsert(eq(eventId), eq("MINUTE"), eq(LocalDateTime.of(2030, 1, 10, 10, 40)),
+                anyInt(), anyInt(), anyInt());
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+}
@@ -0,0 +1,72 @@
+package com.eventory.cache;
+
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExpiringLruCacheTest {
+
+    private MutableClock clock;
+    private ExpiringLruCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        cache = new ExpiringLruCache<>(2, clock);
+    }
+
+    @Test
+    void get_BeforeExpiry_ShouldReturnValue() {
+        // Arrange
+        cache.put("a", "A", clock.millis() + 1_000);
+
+        // Act & Assert
+        assertEquals("A", cache.get("a"));
+        assertEquals(1, cache.stats().hits());
+    }
+
+    @Test
+    void get_AfterExpiry_ShouldMissAndDropEntry() {
+        // Arrange
+        cache.put("a", "A", clock.millis() + 1_000);
+        clock.advance(1_000);
+
+        // Act & Assert
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.stats().expirations());
+    }
+
+    @Test
+    void put_BeyondMaxSize_ShouldEvictLeastRecentlyUsed() {
+        // Arrange
+        cache.put("a", "A", clock.millis() + 1_000);
+        cache.put("b", "B", clock.millis() + 1_000);
+        cache.get("a");
+
+        // Act
+        cache.put("c", "C", clock.millis() + 1_000);
+
+        // Assert
+        assertEquals("A", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void invalidate_ShouldRemoveEntry() {
+        // Arrange
+        cache.put("a", "A", clock.millis() + 1_000);
+
+        // Act
+        cache.invalidate("a");
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertEquals(0.0, cache.stats().hitRatio());
+    }
+}
@@ -0,0 +1,100 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.RsvpRepository.EventRsvpCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AttendeeCountsTest {
+
+    @Mock
+    private RsvpRepository rsvpRepository;
+
+    @Mock
+    private EventCatalog catalog;
+
+    private CacheInvalidationBus bus;
+    private AttendeeCounts attendeeCounts;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessCacheInvalidationBus();
+        attendeeCounts = new AttendeeCounts(rsvpRepository, catalog, bus);
+    }
+
+    @Test
+    void load_ThenRsvpChanges_ShouldAdjustCount() {
+        // Arrange
+        CatalogEntry entry = entry();
+        when(catalog.get(entry.id())).thenReturn(entry);
+        when(rsvpRepository.countUpcomingByEvent(any())).thenReturn(List.of(count(entry.id(), 5)));
+        attendeeCounts.load();
+
+        // Act
+        bus.publish(AttendeeCounts.ADDED_CHANNEL, entry.id().toString());
+        bus.publish(AttendeeCounts.ADDED_CHANNEL, entry.id().toString());
+        bus.publish(AttendeeCounts.REMOVED_CHANNEL, entry.id().toString());
+
+        // Assert
+        assertEquals(6, attendeeCounts.get(entry.id()));
+    }
+
+    @Test
+    void rsvpChange_ForEventOutsideCatalog_ShouldBeIgnored() {
+        // Arrange
+        UUID eventId = UUID.randomUUID();
+
+        // Act
+        bus.publish(AttendeeCounts.ADDED_CHANNEL, eventId.toString());
+
+        // Assert
+        assertEquals(0, attendeeCounts.get(eventId));
+    }
+
+    @Test
+    void onEventChanged_RemovedEvent_ShouldDropCount() {
+        // Arrange
+        CatalogEntry entry = entry();
+        when(catalog.get(entry.id())).thenReturn(entry);
+        bus.publish(AttendeeCounts.ADDED_CHANNEL, entry.id().toString());
+
+        // Act
+        attendeeCounts.onEventChanged(entry, null);
+
+        // Assert
+        assertEquals(0, attendeeCounts.get(entry.id()));
+    }
+
+    private static CatalogEntry entry() {
+        return new CatalogEntry(UUID.randomUUID(), "Gig", null, null, "music", 40.7, -74.0,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2));
+    }
+
+    private static EventRsvpCount count(UUID eventId, long count) {
+        return new EventRsvpCount() {
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
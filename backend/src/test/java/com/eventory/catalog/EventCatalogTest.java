@@ -0,0 +1,184 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.model.Event;
+import com.eventory.model.User;
+import com.eventory.repository.EventRepository;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventCatalogTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private CacheInvalidationBus bus;
+    private MutableClock clock;
+    private EventCatalog catalog;
+    private List<String> changes;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessCacheInvalidationBus();
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"));
+        catalog = new EventCatalog(eventRepository, bus, clock);
+        changes = new ArrayList<>();
+        catalog.addListener((previous, current) -> changes.add(
+                (previous == null ? "-" : previous.title()) + ">" + (current == null ? "-" : current.title())));
+    }
+
+    @Test
+    void load_ShouldAddUpcomingEventsFromRepository() {
+        // Arrange
+        CatalogEntry entry = entry(UUID.randomUUID(), "Gig", now().plusDays(1));
+        when(eventRepository.findCatalogEntries(any())).thenReturn(List.of(entry));
+
+        // Act
+        catalog.load();
+
+        // Assert
+        assertEquals(entry, catalog.get(entry.id()));
+        assertEquals(List.of("->Gig"), changes);
+    }
+
+    @Test
+    void onEventChanged_ShouldReReadEventAndNotifyListeners() {
+        // Arrange
+        Event event = event("Gig", now().plusDays(1));
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        bus.publish(EventCatalog.CHANNEL, event.getId().toString());
+        event.setTitle("Renamed gig");
+
+        // Act
+        bus.publish(EventCatalog.CHANNEL, event.getId().toString());
+
+        // Assert
+        assertEquals("Renamed gig", catalog.get(event.getId()).title());
+        assertEquals(List.of("->Gig", "Gig>Renamed gig"), changes);
+    }
+
+    @Test
+    void onEventChanged_DeletedOrStartedEvent_ShouldBeRemoved() {
+        // Arrange
+        Event deleted = event("Deleted", now().plusDays(1));
+        Event started = event("Started", now().plusDays(1));
+        when(eventRepository.findById(deleted.getId())).thenReturn(Optional.of(deleted)).thenReturn(Optional.empty());
+        when(eventRepository.findById(started.getId())).thenReturn(Optional.of(started));
+        bus.publish(EventCatalog.CHANNEL, deleted.getId().toString());
+        bus.publish(EventCatalog.CHANNEL, started.getId().toString());
+        started.setStartTime(now().minusMinutes(1));
+
+        // Act
+        bus.publish(EventCatalog.CHANNEL, deleted.getId().toString());
+        bus.publish(EventCatalog.CHANNEL, started.getId().toString());
+
+        // Assert
+        assertEquals(0, catalog.size());
+        assertEquals(List.of("->Deleted", "->Started", "Deleted>-", "Started>-"), changes);
+    }
+
+    @Test
+    void onEventRemoved_ShouldDropEntryWithoutReading() {
+        // Arrange
+        CatalogEntry entry = entry(UUID.randomUUID(), "Gig", now().plusDays(1));
+        when(eventRepository.findCatalogEntries(any())).thenReturn(List.of(entry));
+        catalog.load();
+
+        // Act
+        bus.publish(EventCatalog.REMOVED_CHANNEL, entry.id().toString());
+
+        // Assert
+        assertNull(catalog.get(entry.id()));
+        assertEquals(List.of("->Gig", "Gig>-"), changes);
+        verify(eventRepository, never()).findById(any());
+    }
+
+    @Test
+    void purgeStarted_ShouldDropEventsOnceTheyStart() {
+        // Arrange
+        CatalogEntry soon = entry(UUID.randomUUID(), "Soon", now().plusMinutes(30));
+        CatalogEntry later = entry(UUID.randomUUID(), "Later", now().plusDays(1));
+        when(eventRepository.findCatalogEntries(any())).thenReturn(List.of(soon, later));
+        catalog.load();
+        clock.advance(Duration.ofHours(1).toMillis());
+
+        // Act
+        catalog.purgeStarted();
+
+        // Assert
+        assertNull(catalog.get(soon.id()));
+        assertNotNull(catalog.get(later.id()));
+    }
+
+    @Test
+    void onEventStarted_ShouldFollowRemovalOfStartedEvents() {
+        // Arrange
+        List<String> started = new ArrayList<>();
+        catalog.addListener(new EventCatalog.Listener() {
+            @Override
+            public void onEventChanged(CatalogEntry previous, CatalogEntry current) {
+            }
+
+            @Override
+            public void onEventStarted(CatalogEntry entry) {
+                started.add(entry.title());
+            }
+        });
+        CatalogEntry soon = entry(UUID.randomUUID(), "Soon", now().plusMinutes(30));
+        when(eventRepository.findCatalogEntries(any())).thenReturn(List.of(soon));
+        catalog.load();
+        Event underWay = event("Under way", now().minusMinutes(10));
+        when(eventRepository.findById(underWay.getId())).thenReturn(Optional.of(underWay));
+        clock.advance(Duration.ofHours(1).toMillis());
+
+        // Act
+        catalog.purgeStarted();
+        bus.publish(EventCatalog.CHANNEL, underWay.getId().toString());
+
+        // Assert
+        assertEquals(List.of("->Soon", "Soon>-"), changes);
+        assertEquals(List.of("Soon", "Under way"), started);
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static CatalogEntry entry(UUID id, String title, LocalDateTime startTime) {
+        return new CatalogEntry(id, title, null, null, "music", 40.7, -74.0, startTime,
+                startTime.plusHours(2));
+    }
+
+    private static Event event(String title, LocalDateTime startTime) {
+        return Event.builder()
+                .id(UUID.randomUUID())
+                .organizer(User.builder().id(UUID.randomUUID()).build())
+                .title(title)
+                .latitude(40.7)
+                .longitude(-74.0)
+                .startTime(startTime)
+                .endTime(startTime.plusHours(2))
+                .category("music")
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.repository.EventRepository;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventScheduleTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventCatalog catalog;
+
+    private CacheInvalidationBus bus;
+    private MutableClock clock;
+    private EventSchedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessCacheInvalidationBus();
+        clock = new MutableClock(Instant.parse("2030-01-04T12:00:00Z"));
+        schedule = new EventSchedule(eventRepository, catalog, bus, clock);
+    }
+
+    @Test
+    void overlapping_ShouldFindEventsUnderWayInTheWindowByStartTime() {
+        // Arrange
+        CatalogEntry festival = add("Festival", "music", now().minusDays(2), now().plusDays(3));
+        CatalogEntry gig = add("Gig", "music", now().plusHours(30), now().plusHours(33));
+        CatalogEntry brunch = add("Brunch", "food", now().plusHours(26), now().plusHours(28));
+        add("Next week", "music", now().plusDays(7), now().plusDays(7).plusHours(2));
+
+        // Act
+        List<UUID> weekend = schedule.overlapping(now().plusDays(1), now().plusDays(3), null);
+        List<UUID> weekendMusic = schedule.overlapping(now().plusDays(1), now().plusDays(3), "music");
+
+        // Assert
+        assertEquals(List.of(festival.id(), brunch.id(), gig.id()), weekend);
+        assertEquals(List.of(festival.id(), gig.id()), weekendMusic);
+    }
+
+    @Test
+    void overlapping_AtOneInstant_ShouldFindEventsHappeningNow() {
+        // Arrange
+        CatalogEntry underWay = add("Under way", "music", now().minusHours(1), now().plusHours(1));
+        add("Ended", "music", now().minusHours(3), now().minusHours(1));
+        add("Later", "music", now().plusHours(1), now().plusHours(2));
+
+        // Act
+        List<UUID> happening = schedule.overlapping(now(), now(), null);
+
+        // Assert
+        assertEquals(List.of(underWay.id()), happening);
+    }
+
+    @Test
+    void onEventStarted_ShouldKeepEventUntilItEnds() {
+        // Arrange
+        CatalogEntry gig = add("Gig", "music", now().plusMinutes(30), now().plusHours(2));
+        clock.advance(Duration.ofHours(1).toMillis());
+
+        // Act
+        schedule.onEventChanged(gig, null);
+        schedule.onEventStarted(gig);
+        List<UUID> during = schedule.overlapping(now(), now(), null);
+        clock.advance(Duration.ofHours(2).toMillis());
+        schedule.purgeEnded();
+
+        // Assert
+        assertEquals(List.of(gig.id()), during);
+        assertEquals(0, schedule.size());
+    }
+
+    @Test
+    void onEventRemoved_ShouldDropEventUnderWay() {
+        // Arrange
+        CatalogEntry gig = add("Gig", "music", now().minusHours(1), now().plusHours(1));
+
+        // Act
+        bus.publish(EventCatalog.REMOVED_CHANNEL, gig.id().toString());
+
+        // Assert
+        assertEquals(List.of(), schedule.overlapping(now(), now(), null));
+    }
+
+    @Test
+    void load_ShouldNotOverwriteNewerChanges() {
+        // Arrange
+        CatalogEntry moved = add("Gig", "music", now().plusDays(2), now().plusDays(2).plusHours(2));
+        CatalogEntry stale = entry(moved.id(), "Gig", "music", now().plusDays(1), now().plusDays(1).plusHours(2));
+        when(eventRepository.findUnfinishedEntries(any())).thenReturn(List.of(stale));
+
+        // Act
+        schedule.load();
+
+        // Assert
+        assertEquals(List.of(), schedule.overlapping(now().plusDays(1), now().plusDays(1).plusHours(1), null));
+        assertEquals(List.of(moved.id()), schedule.overlapping(now().plusDays(2), now().plusDays(2), null));
+    }
+
+    @Test
+    void overlapping_ShouldAgreeWithAFullScan() {
+        // Arrange
+        Random random = new Random(7);
+        List<CatalogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            LocalDateTime start = now().plusMinutes(random.nextInt(60 * 24 * 60) - 60 * 24 * 30);
+            // Mostly a few hours, some multi-week runs, a few zero-length
+            long minutes = switch (random.nextInt(10)) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(60 * 24 * 40);
+                default -> 30 + random.nextInt(60 * 6);
+            };
+            entries.add(add("Event " + i, random.nextBoolean() ? "music" : "art", start, start.plusMinutes(minutes)));
+        }
+
+        for (int query = 0; query < 200; query++) {
+            // Act
+            LocalDateTime from = now().plusMinutes(random.nextInt(60 * 24 * 60) - 60 * 24 * 30);
+            LocalDateTime to = from.plusMinutes(random.nextInt(3) == 0 ? 0 : random.nextInt(60 * 24 * 3));
+            List<UUID> found = schedule.overlapping(from, to, "art");
+
+            // Assert
+            List<UUID> expected = entries.stream()
+                    .filter(entry -> "art".equals(entry.category()))
+                    .filter(entry -> !entry.startTime().isAfter(to) && entry.endTime().isAfter(from))
+                    .sorted(Comparator.comparing(CatalogEntry::startTime).thenComparing(CatalogEntry::id))
+                    .map(CatalogEntry::id)
+                    .toList();
+            assertEquals(expected, found);
+        }
+    }
+
+    private CatalogEntry add(String title, String category, LocalDateTime start, LocalDateTime end) {
+        CatalogEntry entry = entry(UUID.randomUUID(), title, category, start, end);
+        schedule.onEventChanged(null, entry);
+        return entry;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static CatalogEntry entry(UUID id, String title, String category, LocalDateTime start,
+                                      LocalDateTime end) {
+        return new CatalogEntry(id, title, null, null, category, 40.7, -74.0, start, end);
+    }
+}
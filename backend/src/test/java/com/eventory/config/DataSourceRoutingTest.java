@@ -0,0 +1,130 @@
+package com.eventory.config;
+
+import com.eventory.dto.EventResponse;
+import com.eventory.model.Event;
+import com.eventory.model.User;
+import com.eventory.repository.EventRepository;
+import com.eventory.repository.UserRepository;
+import com.eventory.service.EventService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against two separate H2 databases standing in for the primary and its replica. Nothing
+ * replicates between them, so where a row is found shows which pool served the query.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "eventory.datasource.replica.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1"
+})
+class DataSourceRoutingTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        // Flyway only migrates the primary; a real replica gets its schema through replication
+        Flyway.configure().dataSource(replicaDataSource).locations("classpath:db/migration").load().migrate();
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldQueryReplica() {
+        // Arrange
+        UUID eventId = insertEvent(replica, "Replica event");
+
+        // Act
+        EventResponse response = eventService.getEventById(eventId);
+
+        // Assert
+        assertEquals("Replica event", response.getTitle());
+        assertEquals(0, countEvents(primary, eventId));
+    }
+
+    @Test
+    void writeTransaction_ShouldUsePrimary() {
+        // Arrange
+        String email = "organizer-" + UUID.randomUUID() + "@example.com";
+
+        // Act
+        userRepository.save(User.builder()
+                .name("Organizer")
+                .email(email)
+                .passwordHash("hash")
+                .role(User.Role.ORGANIZER)
+                .build());
+
+        // Assert
+        assertEquals(1, primary.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email));
+        assertEquals(0, replica.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class, email));
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldNotFlushModifiedEntities() {
+        // Arrange
+        UUID eventId = insertEvent(replica, "Original title");
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // Act
+        readOnly.executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.setTitle("Changed title");
+        });
+
+        // Assert
+        assertEquals("Original title",
+                replica.queryForObject("SELECT title FROM events WHERE id = ?", String.class, eventId));
+    }
+
+    private static UUID insertEvent(JdbcTemplate jdbc, String title) {
+        UUID organizerId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        jdbc.update("INSERT INTO users (id, email, password_hash, name, role) VALUES (?, ?, ?, ?, ?)",
+                organizerId, organizerId + "@example.com", "hash", "Organizer", "ORGANIZER");
+        jdbc.update("INSERT INTO events (id, organizer_id, title, latitude, longitude, start_time, end_time, category) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                eventId, organizerId, title, 40.7128, -74.0060,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(1).plusHours(2), "music");
+        return eventId;
+    }
+
+    private static int countEvents(JdbcTemplate jdbc, UUID eventId) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM events WHERE id = ?", Integer.class, eventId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.eventory.config;
+
+import com.eventory.dto.AuthResponse;
+import com.eventory.dto.EventResponse;
+import com.eventory.model.TimeOrderedUuidGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeConfig.EventoryRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registerHints_ShouldCoverResponseBodiesAndTheirNestedTypes() throws Exception {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(EventResponse.class.getMethod("getTitle")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+                .onMethod(AuthResponse.class.getMethod("getUser")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(AuthResponse.UserResponse.class).test(hints));
+    }
+
+    @Test
+    void registerHints_ShouldCoverReflectiveLookupsOutsideSpring() {
+        // Assert
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TimeOrderedUuidGenerator.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        for (String type : NativeConfig.JJWT_IMPLEMENTATIONS) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type);
+        }
+        assertTrue(RuntimeHintsPredicates.resource().forResource("ehcache.xml").test(hints));
+    }
+}
@@ -0,0 +1,455 @@
+package com.eventory.controller;
+
+import com.eventory.analytics.ActivityRollups;
+import com.eventory.dto.AuthResponse;
+import com.eventory.dto.RegisterRequest;
+import com.eventory.feed.TrendingFeed;
+import com.eventory.metrics.StatementCountingFilter;
+import com.eventory.model.Event;
+import com.eventory.model.Rsvp;
+import com.eventory.model.User;
+import com.eventory.repository.EventRepository;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.UserRepository;
+import com.eventory.security.JwtService;
+import com.eventory.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the number of SQL statements behind every endpoint against a realistically sized data set.
+ * The counts must not depend on how many rows an endpoint returns, so a change that adds a query
+ * per event or per RSVP fails here by dozens of statements.
+ *
+ * <p>Caches are emptied before each request, so the counts are for a cold second-level and query
+ * cache. Statements are read from the per-request metric, which only counts the request's own
+ * thread, so scheduled jobs running at the same time do not skew them.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointStatementCountTest {
+
+    private static final int ORGANIZERS = 4;
+    private static final int EVENTS_PER_ORGANIZER = 15;
+    private static final int ATTENDEES = 40;
+    private static final int RSVPS_PER_ATTENDEE = 12;
+    private static final String[] CATEGORIES = {"music", "tech", "sports"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TrendingFeed trendingFeed;
+
+    @Autowired
+    private ActivityRollups activityRollups;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RsvpRepository rsvpRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private SessionFactory sessionFactory;
+    private final List<User> organizers = new ArrayList<>();
+    private final List<User> attendees = new ArrayList<>();
+    private final List<Event> events = new ArrayList<>();
+    private final List<Rsvp> rsvps = new ArrayList<>();
+    private String category;
+
+    @BeforeAll
+    void seed() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        // Unique per run so the category feed only sees this class's events
+        category = CATEGORIES[0] + "-" + UUID.randomUUID();
+
+        for (int i = 0; i < ORGANIZERS; i++) {
+            organizers.add(user("Organizer " + i, User.Role.ORGANIZER));
+        }
+        for (int i = 0; i < ATTENDEES; i++) {
+            attendees.add(user("Attendee " + i, User.Role.ATTENDEE));
+        }
+        userRepository.saveAll(organizers);
+        userRepository.saveAll(attendees);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < ORGANIZERS * EVENTS_PER_ORGANIZER; i++) {
+            events.add(Event.builder()
+                    .organizer(organizers.get(i % ORGANIZERS))
+                    .title("Event " + i)
+                    .latitude(40.7128 + i * 0.001)
+                    .longitude(-74.0060 + i * 0.001)
+                    .startTime(start.plusHours(i))
+                    .endTime(start.plusHours(i + 2))
+                    .category(i % 2 == 0 ? category : CATEGORIES[1 + i % 2])
+                    .maxAttendees(i % 3 == 0 ? 500 : null)
+                    .build());
+        }
+        eventRepository.saveAll(events);
+
+        for (int a = 0; a < ATTENDEES; a++) {
+            for (int r = 0; r < RSVPS_PER_ATTENDEE; r++) {
+                Event event = events.get((a * 7 + r * 5) % events.size());
+                rsvps.add(Rsvp.builder()
+                        .event(event)
+                        .user(attendees.get(a))
+                        .qrCode("EVENTORY-" + UUID.randomUUID())
+                        .build());
+            }
+        }
+        rsvpRepository.saveAll(rsvps);
+    }
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @Test
+    void listUpcomingEvents() throws Exception {
+        MvcResult result = assertStatements(2, get("/api/events"));
+        assertTrue(count(result) >= events.size());
+    }
+
+    @Test
+    void listEventsByCategory() throws Exception {
+        MvcResult result = assertStatements(2, get("/api/events").param("category", category));
+        assertEquals(events.size() / 2, count(result));
+    }
+
+    @Test
+    void listEventsNearby() throws Exception {
+        MvcResult result = assertStatements(3, get("/api/events")
+                .param("lat", "40.7128").param("lng", "-74.0060").param("radius", "25"));
+        assertTrue(count(result) >= events.size());
+    }
+
+    @Test
+    void searchEvents() throws Exception {
+        MvcResult result = assertStatements(1, get("/api/events/search")
+                .param("q", "event").param("category", category).param("limit", "25"));
+        assertEquals(25, count(result));
+    }
+
+    @Test
+    void windowEvents() throws Exception {
+        LocalDateTime start = events.get(0).getStartTime();
+        MvcResult result = assertStatements(2, get("/api/events")
+                .param("from", start.plusHours(1).toString()).param("to", start.plusHours(3).toString())
+                .param("category", category));
+        assertEquals(2, count(result));
+    }
+
+    @Test
+    void windowEvents_WithLocation_ShouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/events")
+                        .param("happeningNow", "true").param("lat", "40.7128").param("lng", "-74.0060"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void windowEvents_WithNegativeLimit_ShouldBeRejected() throws Exception {
+        mockMvc.perform(get("/api/events").param("happeningNow", "true").param("limit", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void suggest() throws Exception {
+        MvcResult result = assertStatements(0, get("/api/events/suggest").param("prefix", "event"));
+        assertEquals(10, count(result));
+    }
+
+    @Test
+    void forYouEvents() throws Exception {
+        MvcResult result = assertStatements(2, get("/api/events/for-you")
+                .param("lat", "40.7128").param("lng", "-74.0060").param("limit", "25")
+                .header(HttpHeaders.AUTHORIZATION, bearer(attendees.get(7))));
+        assertEquals(25, count(result));
+    }
+
+    @Test
+    void trendingEvents() throws Exception {
+        trendingFeed.refresh();
+        // Only the id-IN fetch: attendee counts come from AttendeeCounts
+        MvcResult result = assertStatements(1, get("/api/events/trending").param("window", "day"));
+        assertEquals(20, count(result));
+    }
+
+    @Test
+    void getEvent() throws Exception {
+        assertStatements(3, get("/api/events/{id}", events.get(0).getId()));
+    }
+
+    @Test
+    void listOrganizerEvents() throws Exception {
+        MvcResult result = assertStatements(3, get("/api/events/organizer")
+                .header(HttpHeaders.AUTHORIZATION, bearer(organizers.get(0))));
+        assertEquals(EVENTS_PER_ORGANIZER, count(result));
+    }
+
+    @Test
+    void createEvent() throws Exception {
+        assertStatements(2, post("/api/events")
+                .header(HttpHeaders.AUTHORIZATION, bearer(organizers.get(1)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(eventJson("Created event")));
+    }
+
+    @Test
+    void updateEvent() throws Exception {
+        Event event = saveEvent(organizers.get(1), "Event to update");
+
+        assertStatements(4, put("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(organizers.get(1)))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(eventJson("Updated event")));
+    }
+
+    @Test
+    void deleteEvent() throws Exception {
+        Event event = saveEvent(organizers.get(1), "Event to delete");
+
+        assertStatements(3, delete("/api/events/{id}", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(organizers.get(1))));
+    }
+
+    @Test
+    void rsvpToEvent() throws Exception {
+        User attendee = userRepository.save(user("Late attendee", User.Role.ATTENDEE));
+        sessionFactory.getCache().evictAllRegions();
+
+        // events.get(0) has a capacity, so the event row is locked before counting its RSVPs
+        assertStatements(6, post("/api/events/{id}/rsvp", events.get(0).getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(attendee)));
+    }
+
+    @Test
+    void getOwnRsvpForEvent() throws Exception {
+        Rsvp rsvp = rsvps.get(0);
+        assertStatements(3, get("/api/events/{id}/rsvp", rsvp.getEvent().getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(rsvp.getUser())));
+    }
+
+    @Test
+    void cancelRsvp() throws Exception {
+        Rsvp rsvp = rsvps.get(1);
+        assertStatements(3, delete("/api/events/{id}/rsvp", rsvp.getEvent().getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(rsvp.getUser())));
+    }
+
+    @Test
+    void listOwnRsvps() throws Exception {
+        MvcResult result = assertStatements(2, get("/api/rsvps")
+                .header(HttpHeaders.AUTHORIZATION, bearer(attendees.get(5))));
+        assertEquals(RSVPS_PER_ATTENDEE, count(result));
+    }
+
+    @Test
+    void listEventAttendees() throws Exception {
+        Event event = events.get(0);
+        MvcResult result = assertStatements(3, get("/api/events/{id}/attendees", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(event.getOrganizer())));
+        assertTrue(count(result) > 1);
+    }
+
+    @Test
+    void eventAnalytics() throws Exception {
+        Event event = events.get(0);
+        activityRollups.flush();
+        MvcResult result = assertStatements(3, get("/api/events/{id}/analytics", event.getId())
+                .header(HttpHeaders.AUTHORIZATION, bearer(event.getOrganizer())));
+        long seeded = rsvps.stream().filter(rsvp -> rsvp.getEvent() == event).count();
+        assertTrue(objectMapper.readTree(result.getResponse().getContentAsString()).get("rsvps").asLong() >= seeded);
+    }
+
+    @Test
+    void checkIn() throws Exception {
+        Rsvp rsvp = rsvps.get(2);
+        assertStatements(4, post("/api/rsvps/checkin")
+                .header(HttpHeaders.AUTHORIZATION, bearer(rsvp.getEvent().getOrganizer()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"qrCode\":\"" + rsvp.getQrCode() + "\"}"));
+    }
+
+    @Test
+    void eventStats() throws Exception {
+        assertStatements(2, get("/api/events/{id}/stats", events.get(0).getId()));
+    }
+
+    @Test
+    void currentUserFromClaims() throws Exception {
+        assertStatements(0, get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(attendees.get(0))));
+    }
+
+    @Test
+    void currentUserFromTokenWithoutRole() throws Exception {
+        // Authentication loads the user before the controller runs; that lookup is counted too
+        String token = jwtService.generateToken(Map.of(), org.springframework.security.core.userdetails.User
+                .withUsername(attendees.get(0).getEmail()).password("").authorities(List.of()).build());
+
+        assertStatements(1, get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+    }
+
+    @Test
+    void currentUserWithInterests() throws Exception {
+        assertStatements(1, get("/api/auth/me").param("fields", "interests")
+                .header(HttpHeaders.AUTHORIZATION, bearer(attendees.get(0))));
+    }
+
+    @Test
+    void updateInterests() throws Exception {
+        assertStatements(2, put("/api/auth/interests")
+                .header(HttpHeaders.AUTHORIZATION, bearer(attendees.get(1)))
+                .contentType(MediaType.TEXT_PLAIN)
+                .content("music,tech"));
+    }
+
+    @Test
+    void register() throws Exception {
+        assertStatements(2, post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"New\",\"email\":\"" + UUID.randomUUID() + "@example.com\","
+                        + "\"password\":\"password123\"}"));
+    }
+
+    @Test
+    void login() throws Exception {
+        String email = UUID.randomUUID() + "@example.com";
+        authService.register(new RegisterRequest("Login", email, "password123", null, null));
+        sessionFactory.getCache().evictAllRegions();
+
+        assertStatements(2, post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"" + email + "\",\"password\":\"password123\"}"));
+    }
+
+    @Test
+    void refresh() throws Exception {
+        AuthResponse session = authService.register(new RegisterRequest(
+                "Refresh", UUID.randomUUID() + "@example.com", "password123", null, null));
+        sessionFactory.getCache().evictAllRegions();
+
+        assertStatements(3, post("/api/auth/refresh")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + session.getRefreshToken() + "\"}"));
+    }
+
+    @Test
+    void logout() throws Exception {
+        AuthResponse session = authService.register(new RegisterRequest(
+                "Logout", UUID.randomUUID() + "@example.com", "password123", null, null));
+        sessionFactory.getCache().evictAllRegions();
+
+        assertStatements(2, post("/api/auth/logout")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + session.getToken())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + session.getRefreshToken() + "\"}"));
+    }
+
+    @Test
+    void logoutAll() throws Exception {
+        AuthResponse session = authService.register(new RegisterRequest(
+                "LogoutAll", UUID.randomUUID() + "@example.com", "password123", null, null));
+        sessionFactory.getCache().evictAllRegions();
+
+        assertStatements(1, post("/api/auth/logout-all")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + session.getToken()));
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + session.getToken()))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private MvcResult assertStatements(long expected, MockHttpServletRequestBuilder request) throws Exception {
+        double before = recordedStatements();
+        MvcResult result = mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+        assertEquals(expected, (long) (recordedStatements() - before));
+        return result;
+    }
+
+    private double recordedStatements() {
+        return meterRegistry.find(StatementCountingFilter.METRIC_NAME).summaries().stream()
+                .mapToDouble(DistributionSummary::totalAmount)
+                .sum();
+    }
+
+    private int count(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString()).size();
+    }
+
+    private Event saveEvent(User organizer, String title) {
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title(title)
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(3))
+                .endTime(LocalDateTime.now().plusDays(3).plusHours(1))
+                .category(CATEGORIES[2])
+                .build());
+        sessionFactory.getCache().evictAllRegions();
+        return event;
+    }
+
+    private String bearer(User user) {
+        return "Bearer " + jwtService.generateToken(user);
+    }
+
+    private static User user(String name, User.Role role) {
+        return User.builder()
+                .name(name)
+                .email(UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(role)
+                .build();
+    }
+
+    private static String eventJson(String title) {
+        LocalDateTime start = LocalDateTime.now().plusDays(2).withNano(0);
+        return "{\"title\":\"" + title + "\",\"latitude\":40.7128,\"longitude\":-74.0060,"
+                + "\"startTime\":\"" + start + "\",\"endTime\":\"" + start.plusHours(2) + "\","
+                + "\"category\":\"" + CATEGORIES[1] + "\"}";
+    }
+}
@@ -0,0 +1,156 @@
+package com.eventory.feed;
+
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ForYouFeedTest {
+
+    private static final double LAT = 40.7128;
+    private static final double LNG = -74.0060;
+
+    @Mock
+    private EventCatalog catalog;
+
+    @Mock
+    private AttendeeCounts attendeeCounts;
+
+    private MutableClock clock;
+    private ForYouFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"));
+        feed = new ForYouFeed(catalog, attendeeCounts, clock);
+    }
+
+    @Test
+    void top_InterestMatch_ShouldOutrankCloserAndSoonerEvent() {
+        // Arrange
+        CatalogEntry nearbyTech = add("tech", LAT, LNG, now().plusHours(2));
+        CatalogEntry fartherMusic = add("music", LAT + 0.1, LNG, now().plusDays(3));
+
+        // Act
+        List<ForYouFeed.Hit> hits = feed.top(Interests.parse("music,art"), LAT, LNG, 10);
+
+        // Assert
+        assertEquals(List.of(fartherMusic.id(), nearbyTech.id()), ids(hits));
+    }
+
+    @Test
+    void top_WithLocation_ShouldPreferCloserEvent() {
+        // Arrange
+        CatalogEntry far = add("music", LAT + 1.0, LNG, now().plusDays(1));
+        CatalogEntry near = add("music", LAT + 0.01, LNG, now().plusDays(1));
+
+        // Act
+        List<ForYouFeed.Hit> hits = feed.top(0, LAT, LNG, 10);
+
+        // Assert
+        assertEquals(List.of(near.id(), far.id()), ids(hits));
+    }
+
+    @Test
+    void top_EqualOtherwise_ShouldPreferPopularEvent() {
+        // Arrange
+        CatalogEntry quiet = add("music", LAT, LNG, now().plusDays(1));
+        CatalogEntry popular = add("music", LAT, LNG, now().plusDays(1));
+        feed.onCountChanged(popular.id(), 40);
+
+        // Act
+        List<ForYouFeed.Hit> hits = feed.top(0, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(popular.id(), quiet.id()), ids(hits));
+    }
+
+    @Test
+    void top_ShouldUseCountKnownWhenEventArrives() {
+        // Arrange
+        UUID popularId = UUID.randomUUID();
+        when(attendeeCounts.get(any())).thenReturn(0L);
+        when(attendeeCounts.get(popularId)).thenReturn(40L);
+        CatalogEntry quiet = add("music", LAT, LNG, now().plusDays(1));
+        feed.onEventChanged(null, new CatalogEntry(popularId, "Event", null, null, "music", LAT, LNG,
+                now().plusDays(1), now().plusDays(1).plusHours(2)));
+
+        // Act
+        List<ForYouFeed.Hit> hits = feed.top(0, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(popularId, quiet.id()), ids(hits));
+    }
+
+    @Test
+    void top_ShouldSkipRemovedAndStartedEvents() {
+        // Arrange
+        CatalogEntry removed = add("music", LAT, LNG, now().plusDays(1));
+        add("music", LAT, LNG, now().plusMinutes(30));
+        CatalogEntry later = add("music", LAT, LNG, now().plusDays(2));
+        feed.onEventChanged(removed, null);
+        clock.advance(Duration.ofHours(1).toMillis());
+
+        // Act
+        List<ForYouFeed.Hit> hits = feed.top(0, null, null, 10);
+
+        // Assert
+        assertEquals(List.of(later.id()), ids(hits));
+    }
+
+    @Test
+    void top_ShouldReturnSameBestEventsAsFullRanking() {
+        // Arrange
+        Random random = new Random(42);
+        String[] categories = {"music", "tech", "sports", "art", "meetup"};
+        for (int i = 0; i < 2_000; i++) {
+            add(categories[random.nextInt(categories.length)], LAT + random.nextGaussian() * 0.2,
+                    LNG + random.nextGaussian() * 0.2, now().plusMinutes(1 + random.nextInt(60 * 24 * 30)));
+        }
+        int interests = Interests.parse("tech,sports");
+
+        // Act
+        List<ForYouFeed.Hit> best = feed.top(interests, LAT, LNG, 25);
+        List<ForYouFeed.Hit> all = feed.top(interests, LAT, LNG, 2_000);
+
+        // Assert
+        assertEquals(25, best.size());
+        assertEquals(2_000, all.size());
+        assertEquals(all.subList(0, 25), best);
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).score() >= all.get(i).score());
+        }
+    }
+
+    private CatalogEntry add(String category, double latitude, double longitude, LocalDateTime startTime) {
+        CatalogEntry entry = new CatalogEntry(UUID.randomUUID(), "Event", null, null, category,
+                latitude, longitude, startTime, startTime.plusHours(2));
+        feed.onEventChanged(null, entry);
+        return entry;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    private static List<UUID> ids(List<ForYouFeed.Hit> hits) {
+        return hits.stream().map(ForYouFeed.Hit::eventId).toList();
+    }
+}
@@ -0,0 +1,33 @@
+package com.eventory.feed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterestsTest {
+
+    @Test
+    void parse_ShouldSetOneBitPerKnownInterest() {
+        // Act
+        int mask = Interests.parse("music, Tech,underwater-basket-weaving");
+
+        // Assert
+        assertEquals(Interests.categoryBit("music") | Interests.categoryBit("tech"), mask);
+        assertEquals(2, Integer.bitCount(mask));
+    }
+
+    @Test
+    void parse_JsonQuotedList_ShouldIgnoreQuotes() {
+        // Act & Assert
+        assertEquals(Interests.parse("art,food"), Interests.parse("\"art,food\""));
+    }
+
+    @Test
+    void categoryBit_UnknownOrMissingCategory_ShouldBeZero() {
+        // Act & Assert
+        assertEquals(0, Interests.categoryBit("meetup"));
+        assertEquals(0, Interests.categoryBit(null));
+        assertEquals(0, Interests.parse(null));
+        assertNotEquals(0, Interests.categoryBit(" SPORTS "));
+    }
+}
@@ -0,0 +1,51 @@
+package com.eventory.feed;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RsvpRateTest {
+
+    private static final long START = 1_000_000;
+
+    @Test
+    void lastHour_ShouldForgetMinutesOlderThanAnHour() {
+        // Arrange
+        RsvpRate rate = new RsvpRate();
+        rate.add(START, 3);
+        rate.add(START + 30, 2);
+
+        // Act & Assert
+        assertEquals(5, rate.lastHour(START + 59));
+        assertEquals(2, rate.lastHour(START + 60));
+        assertEquals(0, rate.lastHour(START + 90));
+        assertEquals(5, rate.lastDay(START + 90));
+    }
+
+    @Test
+    void lastDay_AfterLongGap_ShouldBeEmpty() {
+        // Arrange
+        RsvpRate rate = new RsvpRate();
+        rate.add(START, 4);
+
+        // Act & Assert
+        assertFalse(rate.idle(START + 23 * 60));
+        assertEquals(0, rate.lastDay(START + 10 * 24 * 60));
+        assertTrue(rate.idle(START + 24 * 60));
+    }
+
+    @Test
+    void add_LateArrival_ShouldCountOnlyInsideWindow() {
+        // Arrange
+        RsvpRate rate = new RsvpRate();
+        rate.add(START + 120, 1);
+
+        // Act
+        rate.add(START + 100, 1);
+        rate.add(START + 30, 1);
+
+        // Assert
+        assertEquals(2, rate.lastHour(START + 120));
+        assertEquals(3, rate.lastDay(START + 120));
+    }
+}
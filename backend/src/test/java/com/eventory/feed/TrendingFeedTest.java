@@ -0,0 +1,164 @@
+package com.eventory.feed;
+
+import com.eventory.cache.CacheInvalidationBus;
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.RsvpRepository.RecentRsvp;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingFeedTest {
+
+    @Mock
+    private EventCatalog catalog;
+
+    @Mock
+    private RsvpRepository rsvpRepository;
+
+    private CacheInvalidationBus bus;
+    private MutableClock clock;
+    private TrendingFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessCacheInvalidationBus();
+        clock = new MutableClock(Instant.parse("2030-01-01T12:00:00Z"));
+        feed = new TrendingFeed(catalog, rsvpRepository, bus, clock);
+    }
+
+    @Test
+    void top_ShouldRankByRecentRsvpsNotTotal() {
+        // Arrange
+        UUID steady = upcomingEvent();
+        UUID surging = upcomingEvent();
+        rsvp(steady, 10);
+        clock.advance(Duration.ofHours(2).toMillis());
+        rsvp(surging, 4);
+        rsvp(steady, 1);
+
+        // Act
+        feed.refresh();
+
+        // Assert
+        assertEquals(List.of(new TrendingFeed.Hit(surging, 4), new TrendingFeed.Hit(steady, 1)),
+                feed.top(TrendingFeed.Window.HOUR, 10));
+        assertEquals(List.of(new TrendingFeed.Hit(steady, 11), new TrendingFeed.Hit(surging, 4)),
+                feed.top(TrendingFeed.Window.DAY, 10));
+    }
+
+    @Test
+    void top_ShouldCountCancellationsAndDropEventsWithoutNetGain() {
+        // Arrange
+        UUID cancelled = upcomingEvent();
+        UUID kept = upcomingEvent();
+        rsvp(cancelled, 2);
+        rsvp(kept, 1);
+        bus.publish(AttendeeCounts.REMOVED_CHANNEL, cancelled.toString());
+        bus.publish(AttendeeCounts.REMOVED_CHANNEL, cancelled.toString());
+
+        // Act
+        feed.refresh();
+
+        // Assert
+        assertEquals(List.of(new TrendingFeed.Hit(kept, 1)), feed.top(TrendingFeed.Window.HOUR, 10));
+    }
+
+    @Test
+    void top_ShouldHideEventsNoLongerInCatalog() {
+        // Arrange
+        UUID started = UUID.randomUUID();
+        rsvp(started, 3);
+
+        // Act
+        feed.refresh();
+
+        // Assert
+        assertEquals(List.of(), feed.top(TrendingFeed.Window.DAY, 10));
+    }
+
+    @Test
+    void top_ShouldServeSnapshotUntilNextRefresh() {
+        // Arrange
+        UUID event = upcomingEvent();
+        feed.refresh();
+        rsvp(event, 1);
+
+        // Act
+        List<TrendingFeed.Hit> beforeRefresh = feed.top(TrendingFeed.Window.HOUR, 10);
+        feed.refresh();
+
+        // Assert
+        assertEquals(List.of(), beforeRefresh);
+        assertEquals(1, feed.top(TrendingFeed.Window.HOUR, 10).size());
+    }
+
+    @Test
+    void load_ShouldReplayLastDayOfRsvps() {
+        // Arrange
+        UUID event = upcomingEvent();
+        LocalDateTime now = LocalDateTime.now(clock);
+        when(rsvpRepository.findRecentRsvps(any(), any())).thenReturn(List.of(
+                recent(event, now.minusHours(5)), recent(event, now.minusMinutes(30)),
+                recent(event, now.minusMinutes(1))));
+
+        // Act
+        feed.load();
+
+        // Assert
+        assertEquals(List.of(new TrendingFeed.Hit(event, 2)), feed.top(TrendingFeed.Window.HOUR, 10));
+        assertEquals(List.of(new TrendingFeed.Hit(event, 3)), feed.top(TrendingFeed.Window.DAY, 10));
+        verify(rsvpRepository).findRecentRsvps(now.minusDays(1), now);
+    }
+
+    @Test
+    void windowParse_ShouldRejectUnknownWindow() {
+        // Act & Assert
+        assertEquals(TrendingFeed.Window.DAY, TrendingFeed.Window.parse("Day"));
+        assertThrows(RuntimeException.class, () -> TrendingFeed.Window.parse("week"));
+    }
+
+    private UUID upcomingEvent() {
+        UUID id = UUID.randomUUID();
+        when(catalog.get(id)).thenReturn(new CatalogEntry(id, "Gig", null, null, "music", 40.7, -74.0,
+                LocalDateTime.now(clock).plusDays(2), LocalDateTime.now(clock).plusDays(2).plusHours(2)));
+        return id;
+    }
+
+    private void rsvp(UUID eventId, int times) {
+        for (int i = 0; i < times; i++) {
+            bus.publish(AttendeeCounts.ADDED_CHANNEL, eventId.toString());
+        }
+    }
+
+    private static RecentRsvp recent(UUID eventId, LocalDateTime createdAt) {
+        return new RecentRsvp() {
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public LocalDateTime getCreatedAt() {
+                return createdAt;
+            }
+        };
+    }
+}
@@ -0,0 +1,73 @@
+package com.eventory.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyReportTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LatencyReport latencyReport;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        latencyReport = new LatencyReport(meterRegistry);
+    }
+
+    @Test
+    void report_ShouldListEndpointsHeaviestFirstWithPercentiles() {
+        // Arrange
+        Timer list = endpointTimer("/api/events", "EventController#getAllEvents");
+        Timer get = endpointTimer("/api/events/{id}", "EventController#getEvent");
+        for (int i = 1; i <= 100; i++) {
+            list.record(Duration.ofMillis(i));
+        }
+        get.record(Duration.ofMillis(5));
+
+        // Act
+        List<LatencyReport.Distribution> endpoints = latencyReport.report().endpoints();
+
+        // Assert
+        assertEquals(2, endpoints.size());
+        LatencyReport.Distribution heaviest = endpoints.get(0);
+        assertEquals("GET /api/events 200 EventController#getAllEvents", heaviest.name());
+        assertEquals(100, heaviest.count());
+        assertEquals(100, heaviest.max(), 0.001);
+        assertTrue(heaviest.p99() >= 95 && heaviest.p99() <= 105, "p99 was " + heaviest.p99());
+        assertTrue(Double.isNaN(endpoints.get(1).p50()));
+    }
+
+    @Test
+    void report_ShouldNameRepositoryCallsAndFlagFailures() {
+        // Arrange
+        Timer.builder(LatencyReport.REPOSITORY_METRIC)
+                .tags("repository", "EventRepository", "method", "findById", "state", "SUCCESS")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(2));
+        Timer.builder(LatencyReport.REPOSITORY_METRIC)
+                .tags("repository", "RsvpRepository", "method", "save", "state", "ERROR")
+                .register(meterRegistry)
+                .record(Duration.ofMillis(1));
+
+        // Act
+        List<LatencyReport.Distribution> repositories = latencyReport.report().repositories();
+
+        // Assert
+        assertEquals(List.of("EventRepository.findById", "RsvpRepository.save ERROR"),
+                repositories.stream().map(LatencyReport.Distribution::name).toList());
+    }
+
+    private Timer endpointTimer(String uri, String handler) {
+        return Timer.builder(LatencyReport.HTTP_METRIC)
+                .tags("method", "GET", "uri", uri, "status", "200", "handler", handler)
+                .publishPercentiles(uri.equals("/api/events") ? new double[] {0.5, 0.95, 0.99} : new double[0])
+                .register(meterRegistry);
+    }
+}
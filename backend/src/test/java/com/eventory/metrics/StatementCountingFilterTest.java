@@ -0,0 +1,66 @@
+package com.eventory.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatementCountingFilterTest {
+
+    private StatementCounter statementCounter;
+    private SimpleMeterRegistry meterRegistry;
+    private StatementCountingFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter();
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new StatementCountingFilter(statementCounter, meterRegistry);
+    }
+
+    @Test
+    void doFilter_ShouldRecordStatementsPerRoute() throws Exception {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events/42");
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/events/{id}");
+            statementCounter.inspect("select e from events e");
+            statementCounter.inspect("select count(*) from rsvps r");
+            statementCounter.inspect("select u from users u");
+        });
+
+        // Assert
+        DistributionSummary summary = meterRegistry.get(StatementCountingFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/events/{id}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
+    @Test
+    void doFilter_WhenChainThrows_ShouldStillRecordAndStopCounting() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/rsvps");
+
+        // Act
+        assertThrows(IllegalStateException.class, () ->
+                filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+                    statementCounter.inspect("insert into rsvps");
+                    throw new IllegalStateException("boom");
+                }));
+
+        // Assert
+        assertEquals(1, meterRegistry.get(StatementCountingFilter.METRIC_NAME).tag("uri", "UNKNOWN")
+                .summary().totalAmount());
+        statementCounter.inspect("select 1");
+        assertEquals(0, statementCounter.stop());
+    }
+}
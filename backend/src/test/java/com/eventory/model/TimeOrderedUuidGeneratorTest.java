@@ -0,0 +1,77 @@
+package com.eventory.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+    @Test
+    void nextUuid_ShouldBeVersion7WithEmbeddedTimestamp() {
+        // Arrange
+        long before = System.currentTimeMillis();
+
+        // Act
+        UUID uuid = generator.next();
+
+        // Assert
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void nextUuid_WithinSameMillisecond_ShouldStayOrdered() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        UUID previous = generator.next(now);
+
+        // Act & Assert: more ids than the 12-bit sequence holds, all in one millisecond
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next(now);
+            assertTrue(compareUnsigned(previous, next) < 0, "ids must increase");
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextUuid_WhenClockMovesBackwards_ShouldStayOrdered() {
+        // Arrange
+        long now = System.currentTimeMillis();
+        UUID first = generator.next(now);
+
+        // Act
+        UUID second = generator.next(now - 5_000);
+
+        // Assert
+        assertTrue(compareUnsigned(first, second) < 0);
+    }
+
+    @Test
+    void nextUuid_WithFixedClockAndSeed_ShouldRepeatAcrossGenerators() {
+        // Arrange
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        TimeOrderedUuidGenerator first = new TimeOrderedUuidGenerator(clock, new Random(42));
+        TimeOrderedUuidGenerator second = new TimeOrderedUuidGenerator(clock, new Random(42));
+
+        // Act & Assert
+        for (int i = 0; i < 5_000; i++) {
+            assertEquals(first.next(), second.next());
+        }
+    }
+
+    // Byte order, as databases compare UUID columns
+    private static int compareUnsigned(UUID a, UUID b) {
+        int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+        return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+    }
+}
@@ -0,0 +1,188 @@
+package com.eventory.perf;
+
+import com.eventory.EventoryApplication;
+import com.eventory.model.Event;
+import com.eventory.model.User;
+import com.eventory.repository.EventRepository;
+import com.eventory.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares request handling on platform threads with virtual threads under closed-loop load.
+ * Boots the application once per mode on a random port, then keeps a fixed number of clients
+ * busy calling {@code GET /api/events/{id}} (two blocking JDBC queries) and reports throughput
+ * and latency percentiles for each concurrency level.
+ *
+ * <p>Virtual threads need Java 21, so build with the {@code virtual-threads} profile to get
+ * both modes; on older runtimes only platform threads are measured:
+ * <pre>
+ * mvn -Pvirtual-threads test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     "-Dexec.args=-cp %classpath com.eventory.perf.RequestThreadingLoadBenchmark 1000,2500,5000,10000 30"
+ * </pre>
+ * Arguments are the comma-separated client counts and the measured seconds per level.
+ */
+public final class RequestThreadingLoadBenchmark {
+
+    private static final Duration WARMUP = Duration.ofSeconds(5);
+    private static final int MAX_SAMPLES = 20_000_000;
+
+    private RequestThreadingLoadBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int[] levels = Arrays.stream((args.length > 0 ? args[0] : "1000,2500,5000,10000").split(","))
+                .mapToInt(level -> Integer.parseInt(level.trim()))
+                .toArray();
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+
+        List<Boolean> modes = new ArrayList<>(List.of(false));
+        if (Runtime.version().feature() >= 21) {
+            modes.add(true);
+        } else {
+            System.out.println("Java " + Runtime.version().feature() + ": virtual threads unavailable, "
+                    + "measuring platform threads only");
+        }
+
+        List<String> rows = new ArrayList<>();
+        for (boolean virtual : modes) {
+            try (ConfigurableApplicationContext context = start(virtual)) {
+                int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                URI uri = URI.create("http://localhost:" + port + "/api/events/" + seed(context).getId());
+
+                for (int clients : levels) {
+                    HttpClient client = HttpClient.newBuilder()
+                            .version(HttpClient.Version.HTTP_1_1)
+                            .connectTimeout(Duration.ofSeconds(30))
+                            .build();
+                    drive(client, uri, clients, WARMUP);
+                    Result result = drive(client, uri, clients, duration);
+                    rows.add(String.format("%-9s %8d %12.0f %10.1f %10.1f %10.1f %8d",
+                            virtual ? "virtual" : "platform", clients, result.throughput(),
+                            result.percentileMillis(0.50), result.percentileMillis(0.99),
+                            result.percentileMillis(0.999), result.errors()));
+                }
+            }
+        }
+
+        System.out.printf("%n%-9s %8s %12s %10s %10s %10s %8s%n",
+                "mode", "clients", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+        rows.forEach(System.out::println);
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(EventoryApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:loadbench-" + virtual + ";DB_CLOSE_DELAY=-1",
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=10000",
+                        "security.rate-limit.enabled=false",
+                        "logging.level.com.eventory=INFO")
+                .run();
+    }
+
+    private static Event seed(ConfigurableApplicationContext context) {
+        User organizer = context.getBean(UserRepository.class).save(User.builder()
+                .name("Load Organizer")
+                .email("organizer@loadbench.test")
+                .passwordHash("unused")
+                .role(User.Role.ORGANIZER)
+                .build());
+        return context.getBean(EventRepository.class).save(Event.builder()
+                .organizer(organizer)
+                .title("Load benchmark event")
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(3))
+                .category("music")
+                .build());
+    }
+
+    /** Keeps {@code clients} requests in flight until {@code duration} elapses. */
+    private static Result drive(HttpClient client, URI uri, int clients, Duration duration)
+            throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+        Recorder recorder = new Recorder();
+        CountDownLatch finished = new CountDownLatch(clients);
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        for (int i = 0; i < clients; i++) {
+            loop(client, request, deadline, recorder, finished);
+        }
+        finished.await();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        return recorder.result(seconds);
+    }
+
+    private static void loop(HttpClient client, HttpRequest request, long deadline,
+                             Recorder recorder, CountDownLatch finished) {
+        long sent = System.nanoTime();
+        if (sent >= deadline) {
+            finished.countDown();
+            return;
+        }
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenCompleteAsync((response, error) -> {
+                    if (error == null && response.statusCode() == 200) {
+                        recorder.record(System.nanoTime() - sent);
+                    } else {
+                        recorder.error();
+                    }
+                    loop(client, request, deadline, recorder, finished);
+                }, ForkJoinPool.commonPool());
+    }
+
+    private static final class Recorder {
+
+        private final long[] samples = new long[MAX_SAMPLES];
+        private final AtomicInteger count = new AtomicInteger();
+        private final LongAdder errors = new LongAdder();
+
+        void record(long nanos) {
+            int index = count.getAndIncrement();
+            if (index < samples.length) {
+                samples[index] = nanos;
+            }
+        }
+
+        void error() {
+            errors.increment();
+        }
+
+        Result result(double seconds) {
+            int completed = count.get();
+            long[] sorted = Arrays.copyOf(samples, Math.min(completed, samples.length));
+            Arrays.sort(sorted);
+            return new Result(completed / seconds, sorted, errors.sum());
+        }
+    }
+
+    private record Result(double throughput, long[] sortedNanos, long errors) {
+
+        double percentileMillis(double percentile) {
+            if (sortedNanos.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.eventory.perf;
+
+import com.eventory.model.TimeOrderedUuidGenerator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Bulk-inserts RSVP-shaped rows keyed by random UUIDv4 ids and by time-ordered UUIDv7 ids, and
+ * reports insert throughput (overall and over the last tenth, once the index is large) and the
+ * space the table and its primary key index take.
+ *
+ * <p>Defaults to a throwaway H2 file database; pass a PostgreSQL url to measure there, where
+ * index size comes from {@code pg_relation_size}:
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test \
+ *     "-Dexec.args=-cp %classpath com.eventory.perf.UuidInsertBenchmark 5000000 jdbc:postgresql://localhost/bench user pass"
+ * </pre>
+ */
+public final class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private UuidInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        Path scratch = null;
+        String url;
+        if (args.length > 1) {
+            url = args[1];
+        } else {
+            scratch = Files.createTempDirectory("uuid-insert-bench");
+            url = "jdbc:h2:file:" + scratch.resolve("bench") + ";DB_CLOSE_ON_EXIT=FALSE";
+        }
+        String user = args.length > 2 ? args[2] : "sa";
+        String password = args.length > 3 ? args[3] : "";
+
+        Map<String, Supplier<UUID>> generators = new LinkedHashMap<>();
+        generators.put("random-v4", UUID::randomUUID);
+        generators.put("ordered-v7", new TimeOrderedUuidGenerator()::next);
+
+        StringBuilder report = new StringBuilder(String.format("%n%-11s %10s %14s %16s %12s %12s%n",
+                "generator", "rows", "rows/s", "last 10% rows/s", "table MB", "pk index MB"));
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(false);
+            boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+            for (Map.Entry<String, Supplier<UUID>> generator : generators.entrySet()) {
+                String table = "rsvp_bench_" + generator.getKey().replace('-', '_');
+                createTable(connection, table);
+                double[] throughput = insert(connection, table, rows, generator.getValue());
+                double[] sizes = sizes(connection, table, postgres);
+                report.append(String.format("%-11s %10d %14.0f %16.0f %12.1f %12s%n",
+                        generator.getKey(), rows, throughput[0], throughput[1], sizes[0] / 1e6,
+                        sizes[1] < 0 ? "n/a" : String.format("%.1f", sizes[1] / 1e6)));
+                drop(connection, table);
+            }
+        } finally {
+            if (scratch != null) {
+                deleteRecursively(scratch);
+            }
+        }
+        System.out.print(report);
+    }
+
+    private static void createTable(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " ("
+                    + "id UUID PRIMARY KEY, "
+                    + "event_id UUID NOT NULL, "
+                    + "user_id UUID NOT NULL, "
+                    + "qr_code VARCHAR(255) NOT NULL, "
+                    + "checked_in BOOLEAN NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    /** Returns overall rows/s and rows/s over the final tenth of the load. */
+    private static double[] insert(Connection connection, String table, int rows, Supplier<UUID> ids)
+            throws SQLException {
+        UUID eventId = UUID.randomUUID();
+        int tailStart = rows - rows / 10;
+        long start = System.nanoTime();
+        long tailStartedAt = start;
+
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+                + " (id, event_id, user_id, qr_code, checked_in, created_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                if (i == tailStart) {
+                    tailStartedAt = System.nanoTime();
+                }
+                insert.setObject(1, ids.get());
+                insert.setObject(2, eventId);
+                insert.setObject(3, UUID.randomUUID());
+                insert.setString(4, "EVENTORY-" + i);
+                insert.setBoolean(5, false);
+                insert.setTimestamp(6, new Timestamp(System.currentTimeMillis()));
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0 || i == rows - 1) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+
+        long end = System.nanoTime();
+        return new double[] {
+                rows / ((end - start) / 1e9),
+                (rows - tailStart) / ((end - tailStartedAt) / 1e9)
+        };
+    }
+
+    /** Returns the table's total size and its primary key index size in bytes (-1 if unknown). */
+    private static double[] sizes(Connection connection, String table, boolean postgres) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            if (postgres) {
+                // VACUUM cannot run inside a transaction block
+                connection.commit();
+                connection.setAutoCommit(true);
+                try {
+                    statement.execute("VACUUM ANALYZE " + table);
+                } finally {
+                    connection.setAutoCommit(false);
+                }
+                try (ResultSet rs = statement.executeQuery("SELECT pg_total_relation_size('" + table + "'), "
+                        + "pg_relation_size('" + table + "_pkey')")) {
+                    rs.next();
+                    return new double[] {rs.getLong(1), rs.getLong(2)};
+                }
+            }
+            // H2 reports one figure covering the table and all of its indexes
+            try (ResultSet rs = statement.executeQuery("SELECT DISK_SPACE_USED('" + table.toUpperCase() + "')")) {
+                rs.next();
+                return new double[] {rs.getLong(1), -1};
+            }
+        }
+    }
+
+    private static void drop(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
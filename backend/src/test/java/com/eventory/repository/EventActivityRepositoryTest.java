@@ -0,0 +1,123 @@
+package com.eventory.repository;
+
+import com.eventory.model.Event;
+import com.eventory.model.EventActivity;
+import com.eventory.model.EventActivity.Resolution;
+import com.eventory.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class EventActivityRepositoryTest {
+
+    @Autowired
+    private EventActivityRepository activityRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        User organizer = userRepository.save(User.builder()
+                .name("Organizer")
+                .email("organizer-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(User.Role.ORGANIZER)
+                .build());
+        event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Gig")
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .category("music")
+                .build());
+    }
+
+    @Test
+    void merge_ShouldCreateBucketThenAddToIt() {
+        // Arrange
+        LocalDateTime minute = LocalDateTime.of(2030, 1, 10, 12, 30);
+
+        // Act
+        add(event.getId(), Resolution.MINUTE, minute, 2, 0, 1);
+        add(event.getId(), Resolution.MINUTE, minute, 1, 1, 0);
+
+        // Assert
+        List<EventActivity> series = activityRepository.findByEventIdOrderByBucketStart(event.getId());
+        assertEquals(List.of(new EventActivity(event.getId(), Resolution.MINUTE, minute, 3, 1, 1)), series);
+    }
+
+    @Test
+    void merge_ForDeletedEvent_ShouldDoNothing() {
+        // Act
+        int added = add(UUID.randomUUID(), Resolution.MINUTE, LocalDateTime.of(2030, 1, 10, 12, 30), 1, 0, 0);
+
+        // Assert
+        assertEquals(0, added);
+    }
+
+    @Test
+    void findByResolutionAndBucketStartBefore_ShouldHoldAddsUntilTheTransactionEnds() throws Exception {
+        // Arrange
+        LocalDateTime minute = LocalDateTime.of(2030, 1, 10, 10, 30);
+        add(event.getId(), Resolution.MINUTE, minute, 1, 0, 0);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            // Act
+            Future<Integer> added = transaction.execute(status -> {
+                activityRepository.findByResolutionAndBucketStartBefore(Resolution.MINUTE, minute.plusHours(1));
+                Future<Integer> flush = executor.submit(() -> add(event.getId(), Resolution.MINUTE, minute, 1, 0, 0));
+                sleep(300);
+                assertFalse(flush.isDone());
+                return flush;
+            });
+
+            // Assert
+            assertEquals(1, added.get(5, TimeUnit.SECONDS));
+            assertEquals(2, activityRepository.findByEventIdOrderByBucketStart(event.getId()).get(0).getRsvps());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int add(UUID eventId, Resolution resolution, LocalDateTime start, int rsvps, int cancellations,
+                    int checkIns) {
+        return transaction.execute(status ->
+                activityRepository.merge(eventId, resolution.name(), start, rsvps, cancellations, checkIns));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
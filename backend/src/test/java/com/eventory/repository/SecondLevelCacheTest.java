@@ -0,0 +1,172 @@
+package com.eventory.repository;
+
+import com.eventory.model.Event;
+import com.eventory.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+    private TransactionTemplate readOnly;
+    private User organizer;
+    private String category;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        category = "category-" + UUID.randomUUID();
+        organizer = userRepository.save(User.builder()
+                .name("Organizer")
+                .email("organizer-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(User.Role.ORGANIZER)
+                .build());
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findById_SecondLookup_ShouldBeServedFromCache() {
+        // Arrange
+        UUID eventId = saveEvent("Cached event").getId();
+        entityManagerFactory.getCache().evictAll();
+        readOnly.execute(status -> eventRepository.findById(eventId).orElseThrow());
+        statistics.clear();
+
+        // Act
+        Event event = readOnly.execute(status -> eventRepository.findById(eventId).orElseThrow());
+
+        // Assert
+        assertEquals("Cached event", event.getTitle());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getCacheRegionStatistics("events").getHitCount());
+    }
+
+    @Test
+    void findByEmail_SecondLookup_ShouldBeServedFromQueryCache() {
+        // Arrange
+        userRepository.findByEmail(organizer.getEmail()).orElseThrow();
+        statistics.clear();
+
+        // Act
+        User user = userRepository.findByEmail(organizer.getEmail()).orElseThrow();
+
+        // Assert
+        assertEquals(organizer.getId(), user.getId());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void categoryFeed_RepeatedWithinMinute_ShouldNotQueryDatabase() {
+        // Arrange
+        saveEvent("Feed event");
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        feed(cutoff);
+        statistics.clear();
+
+        // Act
+        List<Event> events = feed(cutoff);
+
+        // Assert
+        assertEquals(1, events.size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getCacheRegionStatistics("eventFeeds").getHitCount());
+    }
+
+    @Test
+    void upcomingFeed_RepeatedWithinMinute_ShouldBeServedFromQueryCache() {
+        // Arrange
+        UUID eventId = saveEvent("Upcoming event").getId();
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        upcoming(cutoff);
+        statistics.clear();
+
+        // Act
+        List<Event> events = upcoming(cutoff);
+
+        // Assert
+        assertTrue(events.stream().anyMatch(event -> event.getId().equals(eventId)));
+        assertEquals(1, statistics.getCacheRegionStatistics("eventFeeds").getHitCount());
+        assertEquals(0, statistics.getCacheRegionStatistics("eventFeeds").getMissCount());
+    }
+
+    @Test
+    void rankedLookup_ShouldNotBeCachedAsAFeed() {
+        // Arrange
+        UUID eventId = saveEvent("Ranked event").getId();
+        statistics.clear();
+
+        // Act
+        readOnly.execute(status -> eventRepository.findAllWithOrganizerByIdIn(List.of(eventId)));
+        readOnly.execute(status -> eventRepository.findAllWithOrganizerByIdIn(List.of(eventId)));
+
+        // Assert
+        assertEquals(0, statistics.getCacheRegionStatistics("eventFeeds").getPutCount());
+        assertEquals(0, statistics.getQueryCachePutCount());
+    }
+
+    @Test
+    void categoryFeed_AfterEventWrite_ShouldBeInvalidated() {
+        // Arrange
+        saveEvent("First event");
+        LocalDateTime cutoff = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        feed(cutoff);
+
+        // Act
+        saveEvent("Second event");
+        List<Event> events = feed(cutoff);
+
+        // Assert
+        assertEquals(2, events.size());
+    }
+
+    private List<Event> feed(LocalDateTime cutoff) {
+        return readOnly.execute(status -> eventRepository.findUpcomingEventsByCategory(category, cutoff));
+    }
+
+    private List<Event> upcoming(LocalDateTime cutoff) {
+        return readOnly.execute(status -> eventRepository.findUpcomingEvents(cutoff));
+    }
+
+    private Event saveEvent(String title) {
+        return eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title(title)
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(2))
+                .category(category)
+                .build());
+    }
+}
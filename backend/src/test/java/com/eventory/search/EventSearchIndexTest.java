@@ -0,0 +1,133 @@
+package com.eventory.search;
+
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class EventSearchIndexTest {
+
+    @Mock
+    private EventCatalog catalog;
+
+    private EventSearchIndex index;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex(catalog);
+        start = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void search_ShouldMatchPrefixesAcrossFieldsAndIgnoreCaseAndAccents() {
+        // Arrange
+        CatalogEntry jazz = add("Late Night Jazz", "Smooth sets", "Café Blue", "music", 0);
+        add("Rust Meetup", "Talks on async", "Tech Hub", "tech", 0);
+
+        // Act
+        List<EventSearchIndex.Hit> byTitlePrefix = index.search("JAZ", entry -> true, 10);
+        List<EventSearchIndex.Hit> byVenue = index.search("cafe", entry -> true, 10);
+
+        // Assert
+        assertEquals(List.of(jazz.id()), ids(byTitlePrefix));
+        assertEquals(List.of(jazz.id()), ids(byVenue));
+    }
+
+    @Test
+    void search_ShouldRequireEveryTokenAndRankTitleMatchesFirst() {
+        // Arrange
+        CatalogEntry inDescription = add("Open Mic", "An evening of jazz poetry", "Hall", "art", 0);
+        CatalogEntry inTitle = add("Jazz Poetry Slam", null, "Hall", "art", 1);
+        add("Jazz Brunch", "Eggs and trumpets", "Diner", "food", 0);
+
+        // Act
+        List<EventSearchIndex.Hit> hits = index.search("jazz poetry", entry -> true, 10);
+
+        // Assert
+        assertEquals(List.of(inTitle.id(), inDescription.id()), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldPreferExactMatchesOverPrefixMatches() {
+        // Arrange
+        CatalogEntry prefix = add("Running Club", null, null, "sports", 0);
+        CatalogEntry exact = add("Run Club", null, null, "sports", 1);
+
+        // Act
+        List<EventSearchIndex.Hit> hits = index.search("run", entry -> true, 10);
+
+        // Assert
+        assertEquals(List.of(exact.id(), prefix.id()), ids(hits));
+    }
+
+    @Test
+    void search_ShouldApplyFilterAndLimit() {
+        // Arrange
+        add("Tech Talk One", null, null, "tech", 0);
+        CatalogEntry second = add("Tech Talk Two", null, null, "tech", 1);
+        add("Tech Talk Three", null, null, "networking", 2);
+
+        // Act
+        List<EventSearchIndex.Hit> hits = index.search("tech", entry -> entry.category().equals("tech"), 1);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertNotEquals(second.id(), hits.get(0).eventId());
+    }
+
+    @Test
+    void onEventChanged_ShouldReindexUpdatesAndDropRemovals() {
+        // Arrange
+        CatalogEntry original = add("Salsa Night", null, null, "music", 0);
+        CatalogEntry renamed = new CatalogEntry(original.id(), "Tango Night", null, null, "music", 0, 0, start,
+                start.plusHours(2));
+        lenient().when(catalog.get(original.id())).thenReturn(renamed);
+
+        // Act
+        index.onEventChanged(original, renamed);
+        List<EventSearchIndex.Hit> oldTitle = index.search("salsa", entry -> true, 10);
+        List<EventSearchIndex.Hit> newTitle = index.search("tango", entry -> true, 10);
+        index.onEventChanged(renamed, null);
+
+        // Assert
+        assertTrue(oldTitle.isEmpty());
+        assertEquals(List.of(original.id()), ids(newTitle));
+        assertTrue(index.search("tango", entry -> true, 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void search_BlankOrSingleCharacterQuery_ShouldReturnNothing() {
+        // Arrange
+        add("A Night Out", null, null, "music", 0);
+
+        // Act & Assert
+        assertTrue(index.search("  ", entry -> true, 10).isEmpty());
+        assertTrue(index.search("a", entry -> true, 10).isEmpty());
+    }
+
+    private CatalogEntry add(String title, String description, String venue, String category, int daysLater) {
+        CatalogEntry entry = new CatalogEntry(UUID.randomUUID(), title, description, venue, category, 40.7, -74.0,
+                start.plusDays(daysLater), start.plusDays(daysLater).plusHours(2));
+        lenient().when(catalog.get(entry.id())).thenReturn(entry);
+        index.onEventChanged(null, entry);
+        return entry;
+    }
+
+    private static List<UUID> ids(List<EventSearchIndex.Hit> hits) {
+        return hits.stream().map(EventSearchIndex.Hit::eventId).toList();
+    }
+}
@@ -0,0 +1,185 @@
+package com.eventory.search;
+
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class SuggestionIndexTest {
+
+    @Mock
+    private EventCatalog catalog;
+
+    @Mock
+    private AttendeeCounts attendeeCounts;
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SuggestionIndex(catalog, attendeeCounts);
+    }
+
+    @Test
+    void suggest_ShouldMatchFromAnyWordStartIgnoringCaseAndAccents() {
+        // Arrange
+        add("Blue Note Jazz Night", "Café Blue", "music");
+
+        // Act
+        List<String> fromFirstWord = texts(index.suggest("BLUE", 10));
+        List<String> fromLaterWord = texts(index.suggest("jazz ni", 10));
+        List<String> fromVenue = texts(index.suggest("cafe", 10));
+
+        // Assert
+        assertEquals(List.of("Café Blue", "Blue Note Jazz Night"), fromFirstWord);
+        assertEquals(List.of("Blue Note Jazz Night"), fromLaterWord);
+        assertEquals(List.of("Café Blue"), fromVenue);
+        assertEquals(List.of(), index.suggest("lue", 10));
+        assertEquals(List.of(), index.suggest("jazz night club", 10));
+    }
+
+    @Test
+    void suggest_ShouldRankByAttendeesAndFollowCountChanges() {
+        // Arrange
+        CatalogEntry meetup = add("Rust Meetup", "Hub", "tech");
+        CatalogEntry workshop = add("Rust Workshop", "Lab", "tech");
+        index.onCountChanged(meetup.id(), 5);
+        index.onCountChanged(workshop.id(), 9);
+
+        // Act
+        List<String> before = texts(index.suggest("rust", 10));
+        index.onCountChanged(workshop.id(), 1);
+        List<String> after = texts(index.suggest("rust", 10));
+
+        // Assert
+        assertEquals(List.of("Rust Workshop", "Rust Meetup"), before);
+        assertEquals(List.of("Rust Meetup", "Rust Workshop"), after);
+    }
+
+    @Test
+    void suggest_ShouldShowSharedTextsOnceAndWeightThemByEveryEvent() {
+        // Arrange
+        add("Jazz Brunch", "Town Hall", "food");
+        add("Jazz Jam", "Town Hall", "music");
+        add("Town Market", "Square", "food");
+
+        // Act
+        List<Suggestion> suggestions = index.suggest("town", 10);
+
+        // Assert
+        assertEquals(List.of("Town Hall", "Town Market"), texts(suggestions));
+        assertEquals(Suggestion.Kind.VENUE, suggestions.get(0).kind());
+        assertEquals(2, suggestions.get(0).events);
+    }
+
+    @Test
+    void onEventChanged_ShouldDropTextsNoEventCarriesAnyMore() {
+        // Arrange
+        CatalogEntry brunch = add("Jazz Brunch", "Town Hall", "food");
+        CatalogEntry jam = add("Jazz Jam", "Town Hall", "music");
+        int before = index.size();
+
+        // Act
+        CatalogEntry renamed = entry(brunch.id(), "Blues Brunch", "Town Hall", "food");
+        index.onEventChanged(brunch, renamed);
+        index.onEventChanged(jam, null);
+
+        // Assert
+        assertEquals(5, before);
+        assertEquals(3, index.size());
+        assertEquals(List.of(), index.suggest("jazz", 10));
+        assertEquals(List.of("Blues Brunch"), texts(index.suggest("blu", 10)));
+        assertEquals(List.of("Town Hall"), texts(index.suggest("hall", 10)));
+        assertEquals(List.of(), index.suggest("music", 10));
+    }
+
+    @Test
+    void suggest_ShouldAgreeWithAFullSortAfterRandomChanges() {
+        // Arrange
+        Random random = new Random(42);
+        String[] words = {"jazz", "java", "jam", "night", "nights", "market", "mark", "run", "rust", "art"};
+        Map<UUID, CatalogEntry> entries = new HashMap<>();
+        Map<UUID, Long> counts = new HashMap<>();
+        for (int step = 0; step < 2000; step++) {
+            int action = random.nextInt(4);
+            if (action == 0 || entries.isEmpty()) {
+                String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)];
+                CatalogEntry entry = entry(UUID.randomUUID(), title, words[random.nextInt(words.length)], "misc");
+                index.onEventChanged(null, entry);
+                entries.put(entry.id(), entry);
+                counts.put(entry.id(), 0L);
+            } else {
+                UUID eventId = new ArrayList<>(entries.keySet()).get(random.nextInt(entries.size()));
+                if (action == 1) {
+                    long count = random.nextInt(50);
+                    index.onCountChanged(eventId, count);
+                    counts.put(eventId, count);
+                } else if (action == 2) {
+                    CatalogEntry renamed = entry(eventId, words[random.nextInt(words.length)] + " night",
+                            entries.get(eventId).venueName(), "misc");
+                    index.onEventChanged(entries.get(eventId), renamed);
+                    entries.put(eventId, renamed);
+                } else {
+                    index.onEventChanged(entries.remove(eventId), null);
+                    counts.remove(eventId);
+                }
+            }
+        }
+
+        // Act & Assert
+        for (String prefix : List.of("j", "ja", "jav", "n", "night", "nights", "m", "mar", "r", "ru", "a", "art",
+                "jazz", "java n", "market", "rust night", "art nights")) {
+            assertEquals(expected(entries, counts, prefix), texts(index.suggest(prefix, 10)), prefix);
+        }
+    }
+
+    /** The best ten suggestions for {@code prefix}, computed from scratch. */
+    private static List<String> expected(Map<UUID, CatalogEntry> entries, Map<UUID, Long> counts, String prefix) {
+        Map<String, long[]> weights = new HashMap<>();
+        entries.values().forEach(entry -> {
+            for (String text : List.of(entry.title(), entry.venueName(), entry.category())) {
+                long[] weight = weights.computeIfAbsent(text, key -> new long[1]);
+                weight[0] += 1 + counts.get(entry.id());
+            }
+        });
+        return weights.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(prefix) || entry.getKey().contains(" " + prefix))
+                .sorted(Comparator.<Map.Entry<String, long[]>>comparingLong(entry -> -entry.getValue()[0])
+                        .thenComparingInt(entry -> entry.getKey().length())
+                        .thenComparing(Map.Entry::getKey))
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private CatalogEntry add(String title, String venue, String category) {
+        CatalogEntry entry = entry(UUID.randomUUID(), title, venue, category);
+        index.onEventChanged(null, entry);
+        return entry;
+    }
+
+    private static CatalogEntry entry(UUID id, String title, String venue, String category) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return new CatalogEntry(id, title, null, venue, category, 40.0, -74.0, start, start.plusHours(2));
+    }
+
+    private static List<String> texts(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::text).toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventory.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs against the embedded server rather than MockMvc, since forwarded headers are resolved by
+ * Tomcat before any filter sees the request. The test client connects over loopback, which
+ * counts as a trusted proxy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "security.rate-limit.ip.capacity=1",
+        "security.rate-limit.ip.refill-per-second=0.001"
+})
+class AuthRateLimitFilterTest {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void login_FromTwoForwardedClients_ShouldUseSeparateBuckets() throws Exception {
+        // Arrange
+        login("203.0.113.10");
+
+        // Act
+        int sameClient = login("203.0.113.10");
+        int otherClient = login("203.0.113.20");
+
+        // Assert
+        assertEquals(TOO_MANY_REQUESTS, sameClient);
+        assertNotEquals(TOO_MANY_REQUESTS, otherClient);
+    }
+
+    private int login(String forwardedFor) throws IOException, InterruptedException {
+        // A fresh email per attempt keeps the per-email bucket out of the way
+        String body = "{\"email\":\"user-" + UUID.randomUUID() + "@example.com\",\"password\":\"password\"}";
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,104 @@
+package com.eventory.security;
+
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.model.User;
+import com.eventory.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CustomUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private InProcessCacheInvalidationBus invalidationBus;
+    private CustomUserDetailsService userDetailsService;
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new InProcessCacheInvalidationBus();
+        userDetailsService = new CustomUserDetailsService(
+                userRepository, invalidationBus, 100, Duration.ofMinutes(5), Clock.systemUTC());
+
+        testUser = User.builder()
+                .id(UUID.randomUUID())
+                .name("Test User")
+                .email("test@example.com")
+                .passwordHash("hashedPassword")
+                .role(User.Role.ORGANIZER)
+                .build();
+    }
+
+    @Test
+    void loadUserByUsername_Twice_ShouldQueryRepositoryOnce() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+
+        // Act
+        userDetailsService.loadUserByUsername("test@example.com");
+        UserDetails result = userDetailsService.loadUserByUsername("test@example.com");
+
+        // Assert
+        assertEquals("test@example.com", result.getUsername());
+        assertTrue(result.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ORGANIZER")));
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+        assertEquals(1, userDetailsService.cacheStats().hits());
+    }
+
+    @Test
+    void loadUserByUsername_AfterCredentialsErased_ShouldStillReturnPassword() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        UserDetails first = userDetailsService.loadUserByUsername("test@example.com");
+
+        // Act
+        ((CredentialsContainer) first).eraseCredentials();
+        UserDetails second = userDetailsService.loadUserByUsername("test@example.com");
+
+        // Assert
+        assertEquals("hashedPassword", second.getPassword());
+    }
+
+    @Test
+    void invalidate_ShouldReloadFromRepository() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        userDetailsService.loadUserByUsername("test@example.com");
+
+        // Act
+        invalidationBus.publish(CustomUserDetailsService.CACHE_NAME, "test@example.com");
+        testUser.setRole(User.Role.ADMIN);
+        UserDetails result = userDetailsService.loadUserByUsername("test@example.com");
+
+        // Assert
+        assertTrue(result.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verify(userRepository, times(2)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void loadUserByUsername_WithUnknownEmail_ShouldThrowException() {
+        // Arrange
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class,
+                () -> userDetailsService.loadUserByUsername("missing@example.com"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.eventory.security;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtService jwtService;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationList tokenRevocationList;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(jwtService, verifiedTokenCache, userDetailsService, tokenRevocationList);
+        request = new MockHttpServletRequest("GET", "/api/auth/me");
+        request.addHeader("Authorization", "Bearer access-token");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_WhenContextNeverRead_ShouldNotVerifyToken() throws Exception {
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> { });
+
+        // Assert
+        verifyNoInteractions(verifiedTokenCache, tokenRevocationList, userDetailsService);
+    }
+
+    @Test
+    void doFilter_WhenContextRead_ShouldAuthenticateFromClaimsOnce() throws Exception {
+        // Arrange
+        VerifiedToken token = new VerifiedToken("jti", "test@example.com", "user-id", "Test User", "ORGANIZER",
+                Instant.now(), Instant.now().plusSeconds(900));
+        when(verifiedTokenCache.verify("access-token")).thenReturn(token);
+        when(jwtService.isTokenValid(eq(token), any())).thenReturn(true);
+        Authentication[] seen = new Authentication[2];
+        FilterChain chain = (req, res) -> {
+            seen[0] = SecurityContextHolder.getContext().getAuthentication();
+            seen[1] = SecurityContextHolder.getContext().getAuthentication();
+        };
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        // Assert
+        assertNotNull(seen[0]);
+        assertSame(seen[0], seen[1]);
+        AuthenticatedUser principal = assertInstanceOf(AuthenticatedUser.class, seen[0].getPrincipal());
+        assertEquals("user-id", principal.getId());
+        assertEquals("Test User", principal.getName());
+        assertTrue(seen[0].getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ORGANIZER")));
+        verify(verifiedTokenCache, times(1)).verify("access-token");
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void doFilter_WithRevokedToken_ShouldLeaveRequestUnauthenticated() throws Exception {
+        // Arrange
+        VerifiedToken token = new VerifiedToken("jti", "test@example.com", "user-id", "Test User", "ATTENDEE",
+                Instant.now(), Instant.now().plusSeconds(900));
+        when(verifiedTokenCache.verify("access-token")).thenReturn(token);
+        when(tokenRevocationList.isRevoked(token)).thenReturn(true);
+        Authentication[] seen = new Authentication[1];
+
+        // Act
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen[0] = SecurityContextHolder.getContext().getAuthentication());
+
+        // Assert
+        assertNull(seen[0]);
+    }
+}
@@ -0,0 +1,97 @@
+package com.eventory.security;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collections;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256-signing";
+
+    private JwtService jwtService;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET, 60_000L);
+        userDetails = new User("test@example.com", "",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_ORGANIZER")));
+    }
+
+    @Test
+    void verify_WithGeneratedToken_ShouldReturnClaims() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+
+        // Act
+        VerifiedToken verified = jwtService.verify(token);
+
+        // Assert
+        assertEquals("test@example.com", verified.subject());
+        assertEquals("ORGANIZER", verified.role());
+        assertNotNull(verified.id());
+        assertNotNull(verified.issuedAt());
+        assertTrue(verified.expiresAt().isAfter(verified.issuedAt()));
+        assertTrue(jwtService.isTokenValid(verified, userDetails));
+    }
+
+    @Test
+    void generateToken_ForUser_ShouldEmbedProfileClaims() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        com.eventory.model.User user = com.eventory.model.User.builder()
+                .id(id)
+                .name("Test User")
+                .email("test@example.com")
+                .role(com.eventory.model.User.Role.ADMIN)
+                .build();
+
+        // Act
+        VerifiedToken verified = jwtService.verify(jwtService.generateToken(user));
+
+        // Assert
+        assertEquals("test@example.com", verified.subject());
+        assertEquals(id.toString(), verified.userId());
+        assertEquals("Test User", verified.name());
+        assertEquals("ADMIN", verified.role());
+    }
+
+    @Test
+    void isTokenValid_ForDifferentUser_ShouldReturnFalse() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+        UserDetails otherUser = new User("other@example.com", "", Collections.emptyList());
+
+        // Act & Assert
+        assertFalse(jwtService.isTokenValid(token, otherUser));
+    }
+
+    @Test
+    void verify_WithTamperedToken_ShouldThrowException() {
+        // Arrange
+        String token = jwtService.generateToken(userDetails);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtService.verify(tampered));
+    }
+
+    @Test
+    void verify_WithExpiredToken_ShouldThrowException() {
+        // Arrange
+        JwtService expiredService = new JwtService(SECRET, -1_000L);
+        String token = expiredService.generateToken(userDetails);
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(token));
+    }
+}
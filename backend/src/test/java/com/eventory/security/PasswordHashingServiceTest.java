@@ -0,0 +1,106 @@
+package com.eventory.security;
+
+import com.eventory.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private PasswordHashingService hashingService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                awaitRelease();
+                return "hashed-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                awaitRelease();
+                return encodedPassword.equals("hashed-" + rawPassword);
+            }
+        };
+        hashingService = new PasswordHashingService(blockingEncoder, 1, 1, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        hashingService.shutdown();
+    }
+
+    @Test
+    void encode_WhenPoolIsFree_ShouldReturnHash() {
+        // Arrange
+        release.countDown();
+
+        // Act & Assert
+        assertEquals("hashed-secret", hashingService.encode("secret"));
+        assertTrue(hashingService.matches("secret", "hashed-secret"));
+    }
+
+    @Test
+    void matches_WithMissingHash_ShouldCompareAgainstDummyAndFail() {
+        // Arrange
+        release.countDown();
+
+        // Act & Assert
+        assertFalse(hashingService.matches("secret", null));
+    }
+
+    @Test
+    void encode_WhenQueueIsSaturated_ShouldRejectImmediately() throws InterruptedException {
+        // Arrange: one task running, one queued
+        callers.submit(() -> hashingService.encode("first"));
+        waitUntil(() -> hashingService.getActiveCount() == 1);
+        callers.submit(() -> hashingService.encode("second"));
+        waitUntil(() -> hashingService.getQueuedTaskCount() == 1);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> hashingService.encode("third"));
+    }
+
+    @Test
+    void execute_WhenWorkThrows_ShouldRethrowOriginalException() {
+        // Arrange
+        release.countDown();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> hashingService.execute(() -> {
+            throw new IllegalArgumentException("bad credentials");
+        }));
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+}
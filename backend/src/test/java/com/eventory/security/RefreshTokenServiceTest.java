@@ -0,0 +1,98 @@
+package com.eventory.security;
+
+import com.eventory.exception.InvalidTokenException;
+import com.eventory.model.RefreshToken;
+import com.eventory.model.User;
+import com.eventory.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private RefreshTokenService refreshTokenService;
+    private User testUser;
+    private RefreshToken storedToken;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, 60_000L);
+        testUser = User.builder()
+                .id(UUID.randomUUID())
+                .email("test@example.com")
+                .role(User.Role.ATTENDEE)
+                .build();
+        storedToken = RefreshToken.builder()
+                .id(UUID.randomUUID())
+                .user(testUser)
+                .tokenHash("hash")
+                .familyId(UUID.randomUUID())
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build();
+    }
+
+    @Test
+    void issue_ShouldStoreDigestNotRawToken() {
+        // Act
+        String rawToken = refreshTokenService.issue(testUser);
+
+        // Assert
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertNotEquals(rawToken, saved.getValue().getTokenHash());
+        assertEquals(TokenDigest.sha256(rawToken), saved.getValue().getTokenHash());
+    }
+
+    @Test
+    void rotate_WithActiveToken_ShouldIssueSuccessorInSameFamily() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(storedToken));
+        when(refreshTokenRepository.revokeIfActive(eq(storedToken.getId()), any())).thenReturn(1);
+
+        // Act
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("raw");
+
+        // Assert
+        assertSame(testUser, rotation.user());
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals(storedToken.getFamilyId(), saved.getValue().getFamilyId());
+    }
+
+    @Test
+    void rotate_WithAlreadyRotatedToken_ShouldRevokeFamily() {
+        // Arrange
+        storedToken.setRevokedAt(LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.of(storedToken));
+
+        // Act & Assert
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("raw"));
+        verify(refreshTokenRepository).revokeFamily(eq(storedToken.getFamilyId()), any());
+        verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+    }
+
+    @Test
+    void rotate_WithUnknownToken_ShouldThrowException() {
+        // Arrange
+        when(refreshTokenRepository.findByTokenHashWithUser(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(InvalidTokenException.class, () -> refreshTokenService.rotate("raw"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.eventory.security;
+
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private MutableClock clock;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        limiter = new TokenBucketRateLimiter(3, 0.5, clock);
+    }
+
+    @Test
+    void tryAcquire_BeyondCapacity_ShouldReject() {
+        // Act & Assert
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        assertTrue(limiter.tryAcquire("10.0.0.1"));
+        assertFalse(limiter.tryAcquire("10.0.0.1"));
+        assertEquals(2, limiter.secondsUntilAvailable("10.0.0.1"));
+    }
+
+    @Test
+    void tryAcquire_ShouldKeepKeysIndependent() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a@example.com");
+        }
+
+        // Act & Assert
+        assertFalse(limiter.tryAcquire("a@example.com"));
+        assertTrue(limiter.tryAcquire("b@example.com"));
+    }
+
+    @Test
+    void tryAcquire_AfterRefillInterval_ShouldAllowAgain() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("10.0.0.1");
+        }
+
+        // Act: 0.5 permits per second, so a single permit takes two seconds
+        clock.advance(1_000);
+        boolean afterOneSecond = limiter.tryAcquire("10.0.0.1");
+        clock.advance(1_000);
+        boolean afterTwoSeconds = limiter.tryAcquire("10.0.0.1");
+
+        // Assert
+        assertFalse(afterOneSecond);
+        assertTrue(afterTwoSeconds);
+    }
+
+    @Test
+    void evictIdle_ShouldDropOnlyRefilledBuckets() {
+        // Arrange
+        limiter.tryAcquire("idle");
+        clock.advance(6_000);
+        limiter.tryAcquire("busy");
+
+        // Act
+        limiter.evictIdle();
+
+        // Assert
+        assertEquals(1, limiter.size());
+        assertEquals(0, limiter.secondsUntilAvailable("idle"));
+    }
+}
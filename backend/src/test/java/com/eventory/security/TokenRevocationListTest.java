@@ -0,0 +1,92 @@
+package com.eventory.security;
+
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.support.MutableClock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationListTest {
+
+    private MutableClock clock;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-01-01T00:00:00Z"));
+        revocationList = new TokenRevocationList(new InProcessCacheInvalidationBus(), 900_000, clock);
+    }
+
+    @Test
+    void revoke_ShouldRejectOnlyThatToken() {
+        // Arrange
+        VerifiedToken revoked = token("jti-1", 60);
+        VerifiedToken other = token("jti-2", 60);
+
+        // Act
+        revocationList.revoke(revoked);
+
+        // Assert
+        assertTrue(revocationList.isRevoked(revoked));
+        assertFalse(revocationList.isRevoked(other));
+    }
+
+    @Test
+    void purgeExpired_ShouldDropEntriesForExpiredTokens() {
+        // Arrange
+        revocationList.revoke(token("short", 60));
+        revocationList.revoke(token("long", 600));
+
+        // Act
+        clock.advance(120_000);
+        revocationList.purgeExpired();
+
+        // Assert
+        assertEquals(1, revocationList.size());
+        assertTrue(revocationList.isRevoked(token("long", 600)));
+    }
+
+    @Test
+    void revokeAllFor_ShouldRejectEarlierTokensOfThatUserOnly() {
+        // Arrange
+        VerifiedToken earlier = token("jti-1", 60);
+        VerifiedToken otherUser = new VerifiedToken("jti-2", "other@example.com", null, null, "ATTENDEE",
+                clock.instant(), clock.instant().plusSeconds(60));
+        clock.advance(5_000);
+
+        // Act
+        revocationList.revokeAllFor("test@example.com");
+        clock.advance(1_000);
+        VerifiedToken later = token("jti-3", 60);
+
+        // Assert
+        assertTrue(revocationList.isRevoked(earlier));
+        assertFalse(revocationList.isRevoked(otherUser));
+        assertFalse(revocationList.isRevoked(later));
+    }
+
+    @Test
+    void purgeExpired_ShouldDropUserCutoffAfterOneTokenLifetime() {
+        // Arrange
+        revocationList.revokeAllFor("test@example.com");
+
+        // Act
+        clock.advance(899_000);
+        revocationList.purgeExpired();
+        int beforeLifetime = revocationList.size();
+        clock.advance(2_000);
+        revocationList.purgeExpired();
+
+        // Assert
+        assertEquals(1, beforeLifetime);
+        assertEquals(0, revocationList.size());
+    }
+
+    private VerifiedToken token(String id, long ttlSeconds) {
+        Instant now = clock.instant();
+        return new VerifiedToken(id, "test@example.com", null, null, "ATTENDEE", now, now.plusSeconds(ttlSeconds));
+    }
+}
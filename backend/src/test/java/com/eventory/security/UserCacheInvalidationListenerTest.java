@@ -0,0 +1,135 @@
+package com.eventory.security;
+
+import com.eventory.model.User;
+import com.eventory.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserCacheInvalidationListenerTest {
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenRevocationList tokenRevocationList;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = userRepository.save(User.builder()
+                .name("Attendee")
+                .email("attendee-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("old-hash")
+                .role(User.Role.ATTENDEE)
+                .build());
+        // Warm both the UserDetails cache and the findByEmail query cache
+        userDetailsService.loadUserByUsername(user.getEmail());
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+    }
+
+    @Test
+    void userUpdate_ShouldEvictCachedUserAndEmailLookup() {
+        // Arrange
+        user.setRole(User.Role.ORGANIZER);
+        user.setPasswordHash("new-hash");
+
+        // Act
+        userRepository.save(user);
+        statistics.clear();
+        UserDetails details = userDetailsService.loadUserByUsername(user.getEmail());
+
+        // Assert
+        assertEquals("new-hash", details.getPassword());
+        assertTrue(details.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ORGANIZER")));
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(User.Role.ORGANIZER, userRepository.findByEmail(user.getEmail()).orElseThrow().getRole());
+    }
+
+    @Test
+    void userDelete_ShouldEvictCachedUserAndEmailLookup() {
+        // Arrange
+        VerifiedToken token = new VerifiedToken("jti", user.getEmail(), null, null, "ATTENDEE",
+                Instant.now().minusSeconds(1), Instant.now().plusSeconds(900));
+
+        // Act
+        userRepository.delete(user);
+        statistics.clear();
+
+        // Assert
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(user.getEmail()));
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertTrue(userRepository.findByEmail(user.getEmail()).isEmpty());
+        assertTrue(tokenRevocationList.isRevoked(token));
+    }
+
+    @Test
+    void roleChange_ShouldRejectTokensIssuedBefore() throws Exception {
+        // Arrange
+        User admin = userRepository.save(User.builder()
+                .name("Admin")
+                .email("admin-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("hash")
+                .role(User.Role.ADMIN)
+                .build());
+        String token = jwtService.generateToken(admin);
+        mockMvc.perform(get("/api/admin/caches").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        admin.setRole(User.Role.ATTENDEE);
+
+        // Act
+        userRepository.save(admin);
+
+        // Assert
+        mockMvc.perform(get("/api/admin/caches").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void interestsChange_ShouldKeepTokensValid() throws Exception {
+        // Arrange
+        String token = jwtService.generateToken(user);
+        user.setInterests("music,tech");
+
+        // Act
+        userRepository.save(user);
+
+        // Assert
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,97 @@
+package com.eventory.service;
+
+import com.eventory.dto.LoginRequest;
+import com.eventory.dto.RegisterRequest;
+import com.eventory.exception.ConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the auth flows to the fewest statements they can run in: each extra lookup shows
+ * up here as a failing count rather than as latency under load.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+class AuthServiceQueryCountTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String email;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        email = "user-" + UUID.randomUUID() + "@example.com";
+    }
+
+    @Test
+    void register_ShouldInsertUserAndRefreshTokenOnly() {
+        // Arrange
+        statistics.clear();
+
+        // Act
+        authService.register(new RegisterRequest("Test User", email, "password123", null, null));
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void register_WithExistingEmail_ShouldFailOnSingleInsert() {
+        // Arrange
+        authService.register(new RegisterRequest("Test User", email, "password123", null, null));
+        statistics.clear();
+
+        // Act
+        ConflictException ex = assertThrows(ConflictException.class, () ->
+                authService.register(new RegisterRequest("Other User", email, "password123", null, null)));
+
+        // Assert
+        assertEquals("Email already registered", ex.getMessage());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void login_ShouldSelectUserOnceAndInsertRefreshToken() {
+        // Arrange
+        authService.register(new RegisterRequest("Test User", email, "password123", null, null));
+        statistics.clear();
+
+        // Act
+        authService.login(new LoginRequest(email, "password123"));
+
+        // Assert
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryExecutionCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    void login_WithUnknownEmail_ShouldRunSingleSelect() {
+        // Arrange
+        statistics.clear();
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () ->
+                authService.login(new LoginRequest(email, "password123")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
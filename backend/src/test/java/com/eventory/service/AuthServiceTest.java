@@ -2,22 +2,30 @@ package com.eventory.service;
 
 import com.eventory.dto.AuthResponse;
 import com.eventory.dto.LoginRequest;
+import com.eventory.dto.RefreshTokenRequest;
 import com.eventory.dto.RegisterRequest;
+import com.eventory.exception.ConflictException;
 import com.eventory.model.User;
 import com.eventory.repository.UserRepository;
 import com.eventory.security.JwtService;
+import com.eventory.security.PasswordHashingService;
+import com.eventory.security.RefreshTokenService;
+import com.eventory.security.TokenRevocationList;
+import com.eventory.security.VerifiedToken;
+import com.eventory.security.VerifiedTokenCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -33,19 +41,22 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private JwtService jwtService;
 
     @Mock
-    private AuthenticationManager authenticationManager;
+    private RefreshTokenService refreshTokenService;
 
     @Mock
-    private UserDetailsService userDetailsService;
+    private VerifiedTokenCache verifiedTokenCache;
 
     @Mock
-    private UserDetails userDetails;
+    private TokenRevocationList tokenRevocationList;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private AuthService authService;
@@ -79,11 +90,11 @@ class AuthServiceTest {
     @Test
     void register_WithValidData_ShouldReturnAuthResponse() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(passwordEncoder.encode(anyString())).thenReturn("hashedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn("jwt-token");
+        runTransactionsInline();
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
+        when(jwtService.generateToken(testUser)).thenReturn("jwt-token");
+        when(refreshTokenService.issue(testUser)).thenReturn("refresh-token");
 
         // Act
         AuthResponse response = authService.register(registerRequest);
@@ -91,29 +102,52 @@ class AuthServiceTest {
         // Assert
         assertNotNull(response);
         assertEquals("jwt-token", response.getToken());
+        assertEquals("refresh-token", response.getRefreshToken());
         assertNotNull(response.getUser());
         assertEquals("test@example.com", response.getUser().getEmail());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void register_WithExistingEmail_ShouldThrowConflict() {
+        // Arrange
+        runTransactionsInline();
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicate key", new SQLException("Unique index or primary key violation", "23505")));
+
+        // Act & Assert
+        ConflictException ex = assertThrows(ConflictException.class, () -> authService.register(registerRequest));
+        assertEquals("Email already registered", ex.getMessage());
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
-    void register_WithExistingEmail_ShouldThrowException() {
+    void register_WithOtherConstraintViolation_ShouldRethrow() {
         // Arrange
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        runTransactionsInline();
+        DataIntegrityViolationException violation = new DataIntegrityViolationException(
+                "value too long", new SQLException("Value too long for column", "22001"));
+        when(passwordHashingService.encode(anyString())).thenReturn("hashedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
 
         // Act & Assert
-        assertThrows(RuntimeException.class, () -> authService.register(registerRequest));
-        verify(userRepository, never()).save(any(User.class));
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> authService.register(registerRequest)));
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
     void login_WithValidCredentials_ShouldReturnAuthResponse() {
         // Arrange
-        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
-                .thenReturn(null);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(testUser));
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(userDetails);
-        when(jwtService.generateToken(any(UserDetails.class))).thenReturn("jwt-token");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "hashedPassword")).thenReturn(true);
+        when(jwtService.generateToken(testUser)).thenReturn("jwt-token");
 
         // Act
         AuthResponse response = authService.login(loginRequest);
@@ -122,6 +156,70 @@ class AuthServiceTest {
         assertNotNull(response);
         assertEquals("jwt-token", response.getToken());
         assertNotNull(response.getUser());
+        verify(userRepository, times(1)).findByEmail("test@example.com");
+    }
+
+    @Test
+    void login_WithWrongPassword_ShouldThrowBadCredentials() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(passwordHashingService.matches("password123", "hashedPassword")).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginRequest));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    void login_WithUnknownEmail_ShouldStillCompareHashAndThrowBadCredentials() {
+        // Arrange
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(BadCredentialsException.class, () -> authService.login(loginRequest));
+        verify(passwordHashingService).matches("password123", null);
+    }
+
+    @Test
+    void refresh_WithValidToken_ShouldReturnRotatedTokens() {
+        // Arrange
+        when(refreshTokenService.rotate("old-refresh"))
+                .thenReturn(new RefreshTokenService.Rotation(testUser, "new-refresh"));
+        when(jwtService.generateToken(testUser)).thenReturn("jwt-token");
+
+        // Act
+        AuthResponse response = authService.refresh(new RefreshTokenRequest("old-refresh"));
+
+        // Assert
+        assertEquals("jwt-token", response.getToken());
+        assertEquals("new-refresh", response.getRefreshToken());
+        assertEquals("test@example.com", response.getUser().getEmail());
+    }
+
+    @Test
+    void logout_ShouldRevokeRefreshFamilyAndAccessToken() {
+        // Arrange
+        VerifiedToken accessToken = new VerifiedToken("jti", "test@example.com", null, null, "ATTENDEE",
+                Instant.now(), Instant.now().plusSeconds(900));
+        when(verifiedTokenCache.verify("access-token")).thenReturn(accessToken);
+
+        // Act
+        authService.logout("refresh-token", "access-token");
+
+        // Assert
+        verify(refreshTokenService).revoke("refresh-token");
+        verify(tokenRevocationList).revoke(accessToken);
+        verify(verifiedTokenCache).evict("access-token");
+    }
+
+    @Test
+    void logoutAll_ShouldRevokeEverySessionAndIssuedAccessToken() {
+        // Act
+        authService.logoutAll("test@example.com");
+
+        // Assert
+        verify(refreshTokenService).revokeAll("test@example.com");
+        verify(tokenRevocationList).revokeAllFor("test@example.com");
     }
 
     @Test
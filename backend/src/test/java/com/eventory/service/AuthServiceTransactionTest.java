@@ -0,0 +1,43 @@
+package com.eventory.service;
+
+import com.eventory.dto.RegisterRequest;
+import com.eventory.model.User;
+import com.eventory.repository.UserRepository;
+import com.eventory.security.RefreshTokenService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class AuthServiceTransactionTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private RefreshTokenService refreshTokenService;
+
+    @Test
+    void register_WhenSessionInsertFails_ShouldNotKeepTheUser() {
+        // Arrange
+        String email = "user-" + UUID.randomUUID() + "@example.com";
+        when(refreshTokenService.issue(any(User.class))).thenThrow(new IllegalStateException("insert failed"));
+
+        // Act
+        assertThrows(IllegalStateException.class, () ->
+                authService.register(new RegisterRequest("Test User", email, "password123", null, null)));
+
+        // Assert
+        assertTrue(userRepository.findByEmail(email).isEmpty());
+    }
+}
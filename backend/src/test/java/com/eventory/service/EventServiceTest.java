@@ -1,12 +1,21 @@
 package com.eventory.service;
 
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.EventSchedule;
 import com.eventory.dto.CreateEventRequest;
 import com.eventory.dto.EventResponse;
+import com.eventory.dto.SuggestionResponse;
+import com.eventory.feed.ForYouFeed;
+import com.eventory.feed.TrendingFeed;
+import com.eventory.feed.UserInterests;
 import com.eventory.model.Event;
 import com.eventory.model.User;
 import com.eventory.repository.EventRepository;
 import com.eventory.repository.RsvpRepository;
 import com.eventory.repository.UserRepository;
+import com.eventory.search.EventSearchIndex;
+import com.eventory.search.Suggestion;
+import com.eventory.search.SuggestionIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +25,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +33,7 @@ import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +49,27 @@ class EventServiceTest {
     @Mock
     private RsvpRepository rsvpRepository;
 
+    @Mock
+    private EventSearchIndex eventSearchIndex;
+
+    @Mock
+    private SuggestionIndex suggestionIndex;
+
+    @Mock
+    private EventSchedule eventSchedule;
+
+    @Mock
+    private AttendeeCounts attendeeCounts;
+
+    @Mock
+    private ForYouFeed forYouFeed;
+
+    @Mock
+    private UserInterests userInterests;
+
+    @Mock
+    private TrendingFeed trendingFeed;
+
     @InjectMocks
     private EventService eventService;
 
@@ -89,7 +121,8 @@ class EventServiceTest {
         // Arrange
         when(eventRepository.findUpcomingEvents(any(LocalDateTime.class)))
                 .thenReturn(Arrays.asList(testEvent));
-        when(rsvpRepository.countByEventId(any(UUID.class))).thenReturn(10L);
+        when(rsvpRepository.countByEventIds(List.of(testEvent.getId())))
+                .thenReturn(List.of(rsvpCount(testEvent.getId(), 10L)));
 
         // Act
         List<EventResponse> result = eventService.getUpcomingEvents();
@@ -173,7 +206,6 @@ class EventServiceTest {
         when(eventRepository.findEventsWithinRadius(
                 eq(40.7128), eq(-74.0060), eq(50.0), any(LocalDateTime.class)))
                 .thenReturn(Arrays.asList(testEvent));
-        when(rsvpRepository.countByEventId(any(UUID.class))).thenReturn(0L);
 
         // Act
         List<EventResponse> result = eventService.getEventsNearby(40.7128, -74.0060, 50.0, null);
@@ -181,5 +213,191 @@ class EventServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.size());
+        assertEquals(0L, result.get(0).getAttendeeCount());
+        verify(rsvpRepository, never()).countByEventId(any(UUID.class));
+    }
+
+    @Test
+    void searchEvents_ShouldReturnEventsInRankOrder() {
+        // Arrange
+        Event secondEvent = Event.builder()
+                .id(UUID.randomUUID())
+                .organizer(testOrganizer)
+                .title("Second Event")
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(2))
+                .endTime(LocalDateTime.now().plusDays(2).plusHours(3))
+                .category("music")
+                .build();
+        when(eventSearchIndex.search(eq("event"), any(), eq(20))).thenReturn(List.of(
+                new EventSearchIndex.Hit(secondEvent.getId(), 2.0),
+                new EventSearchIndex.Hit(testEvent.getId(), 1.0)));
+        when(eventRepository.findAllWithOrganizerByIdIn(anyList())).thenReturn(List.of(testEvent, secondEvent));
+        when(attendeeCounts.get(any(UUID.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0).equals(testEvent.getId()) ? 3L : 0L);
+
+        // Act
+        List<EventResponse> result = eventService.searchEvents("event", null, null, null, 50.0, 20);
+
+        // Assert
+        assertEquals(List.of("Second Event", "Test Event"), result.stream().map(EventResponse::getTitle).toList());
+        assertEquals(3L, result.get(1).getAttendeeCount());
+    }
+
+    @Test
+    void searchEvents_WithBlankQuery_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(RuntimeException.class,
+                () -> eventService.searchEvents(" ", null, null, null, 50.0, 20));
+        verifyNoInteractions(eventSearchIndex);
+    }
+
+    @Test
+    void getEventsInWindow_ShouldReturnOverlappingEventsInScheduleOrder() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2030, 1, 5, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 6, 23, 59);
+        when(eventSchedule.overlapping(from, to, "music")).thenReturn(List.of(testEvent.getId()));
+        when(eventRepository.findAllWithOrganizerByIdIn(anyList())).thenReturn(List.of(testEvent));
+
+        // Act
+        List<EventResponse> result = eventService.getEventsInWindow(from, to, "music", 20);
+
+        // Assert
+        assertEquals(List.of("Test Event"), result.stream().map(EventResponse::getTitle).toList());
+    }
+
+    @Test
+    void getEventsHappeningNow_WithMoreEventsThanTheCap_ShouldFetchOnlyTheFirst() {
+        // Arrange
+        List<UUID> ids = new ArrayList<>();
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < EventService.MAX_WINDOW_RESULTS + 50; i++) {
+            Event event = Event.builder()
+                    .id(UUID.randomUUID())
+                    .organizer(testOrganizer)
+                    .title("Event " + i)
+                    .build();
+            ids.add(event.getId());
+            events.add(event);
+        }
+        when(eventSchedule.overlapping(any(LocalDateTime.class), any(LocalDateTime.class), isNull())).thenReturn(ids);
+        when(eventRepository.findAllWithOrganizerByIdIn(anyList()))
+                .thenAnswer(invocation -> events.subList(0, invocation.<List<UUID>>getArgument(0).size()));
+
+        // Act
+        List<EventResponse> result = eventService.getEventsHappeningNow(null, 1000);
+
+        // Assert
+        assertEquals(EventService.MAX_WINDOW_RESULTS, result.size());
+        assertEquals("Event 0", result.get(0).getTitle());
+        verify(eventRepository).findAllWithOrganizerByIdIn(ids.subList(0, EventService.MAX_WINDOW_RESULTS));
+    }
+
+    @Test
+    void getEventsInWindow_WithStartAfterEnd_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> eventService.getEventsInWindow(
+                LocalDateTime.of(2030, 1, 6, 0, 0), LocalDateTime.of(2030, 1, 5, 0, 0), null, 20));
+        verifyNoInteractions(eventSchedule);
+    }
+
+    @Test
+    void getEventsInWindow_EndingInThePast_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> eventService.getEventsInWindow(
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), null, 20));
+        verifyNoInteractions(eventSchedule);
+    }
+
+    @Test
+    void getEventsHappeningNow_WithLimitBelowOne_ShouldThrowException() {
+        // Arrange
+        when(eventSchedule.overlapping(any(LocalDateTime.class), any(LocalDateTime.class), isNull()))
+                .thenReturn(List.of(testEvent.getId()));
+
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> eventService.getEventsHappeningNow(null, -1));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void suggest_ShouldMapSuggestionsAndCapLimit() {
+        // Arrange
+        Suggestion venue = mock(Suggestion.class);
+        when(venue.text()).thenReturn("Town Hall");
+        when(venue.kind()).thenReturn(Suggestion.Kind.VENUE);
+        when(suggestionIndex.suggest("tow", SuggestionIndex.MAX_SUGGESTIONS)).thenReturn(List.of(venue));
+
+        // Act
+        List<SuggestionResponse> result = eventService.suggest("tow", 1000);
+
+        // Assert
+        assertEquals(List.of(new SuggestionResponse("Town Hall", "venue")), result);
+    }
+
+    @Test
+    void suggest_WithBlankPrefix_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(RuntimeException.class, () -> eventService.suggest(" ", 10));
+        verifyNoInteractions(suggestionIndex);
+    }
+
+    @Test
+    void getForYouEvents_ShouldRankWithUsersInterestsAndCapLimit() {
+        // Arrange
+        when(userInterests.mask("attendee@example.com")).thenReturn(0b101);
+        when(forYouFeed.top(0b101, 40.7, -74.0, EventService.MAX_FOR_YOU_RESULTS))
+                .thenReturn(List.of(new ForYouFeed.Hit(testEvent.getId(), 5.0)));
+        when(eventRepository.findAllWithOrganizerByIdIn(anyList())).thenReturn(List.of(testEvent));
+
+        // Act
+        List<EventResponse> result = eventService.getForYouEvents("attendee@example.com", 40.7, -74.0, 1000);
+
+        // Assert
+        assertEquals(List.of("Test Event"), result.stream().map(EventResponse::getTitle).toList());
+        assertEquals(0L, result.get(0).getAttendeeCount());
+        verifyNoInteractions(rsvpRepository);
+    }
+
+    @Test
+    void getTrendingEvents_ShouldReturnEventsInTrendingOrder() {
+        // Arrange
+        when(trendingFeed.top(TrendingFeed.Window.DAY, 20))
+                .thenReturn(List.of(new TrendingFeed.Hit(testEvent.getId(), 12)));
+        when(eventRepository.findAllWithOrganizerByIdIn(anyList())).thenReturn(List.of(testEvent));
+        when(attendeeCounts.get(testEvent.getId())).thenReturn(30L);
+
+        // Act
+        List<EventResponse> result = eventService.getTrendingEvents("day", 20);
+
+        // Assert
+        assertEquals(List.of("Test Event"), result.stream().map(EventResponse::getTitle).toList());
+        assertEquals(30L, result.get(0).getAttendeeCount());
+        verifyNoInteractions(rsvpRepository);
+    }
+
+    @Test
+    void getTrendingEvents_WithUnknownWindow_ShouldThrowException() {
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> eventService.getTrendingEvents("fortnight", 20));
+        assertEquals("Unknown trending window: fortnight", exception.getMessage());
+        verifyNoInteractions(trendingFeed);
+    }
+
+    private static RsvpRepository.EventRsvpCount rsvpCount(UUID eventId, long count) {
+        return new RsvpRepository.EventRsvpCount() {
+            @Override
+            public UUID getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
     }
 }
@@ -0,0 +1,27 @@
+package com.eventory.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QrCodeGeneratorTest {
+
+    private final QrCodeGenerator generator = new QrCodeGenerator();
+
+    @Test
+    void generate_ShouldEmbedIdPrefixesAndDifferPerTicket() {
+        // Arrange
+        UUID eventId = UUID.fromString("01900000-0000-7000-8000-000000000001");
+        UUID userId = UUID.fromString("0190abcd-0000-7000-8000-000000000002");
+
+        // Act
+        String first = generator.generate(eventId, userId);
+        String second = generator.generate(eventId, userId);
+
+        // Assert
+        assertTrue(first.matches("EVENTORY-01900000-0190abcd-[0-9a-f]{8}"), first);
+        assertNotEquals(first, second);
+    }
+}
@@ -0,0 +1,98 @@
+package com.eventory.service;
+
+import com.eventory.model.Event;
+import com.eventory.model.User;
+import com.eventory.repository.EventRepository;
+import com.eventory.repository.RsvpRepository;
+import com.eventory.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class RsvpCapacityTest {
+
+    private static final int CAPACITY = 5;
+    private static final int TAKERS = 40;
+
+    @Autowired
+    private RsvpService rsvpService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private RsvpRepository rsvpRepository;
+
+    @Test
+    void createRsvp_WhenTakersRaceForTheLastSeats_ShouldNotOversell() throws Exception {
+        // Arrange
+        User organizer = userRepository.save(user(User.Role.ORGANIZER));
+        Event event = eventRepository.save(Event.builder()
+                .organizer(organizer)
+                .title("Ticket drop")
+                .latitude(40.7128)
+                .longitude(-74.0060)
+                .startTime(LocalDateTime.now().plusDays(7))
+                .endTime(LocalDateTime.now().plusDays(7).plusHours(3))
+                .category("music")
+                .maxAttendees(CAPACITY)
+                .build());
+        List<User> attendees = new ArrayList<>();
+        for (int i = 0; i < TAKERS; i++) {
+            attendees.add(userRepository.save(user(User.Role.ATTENDEE)));
+        }
+
+        // Act
+        ExecutorService pool = Executors.newFixedThreadPool(TAKERS);
+        CountDownLatch go = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        try {
+            for (User attendee : attendees) {
+                attempts.add(pool.submit(() -> {
+                    go.await();
+                    try {
+                        rsvpService.createRsvp(event.getId(), attendee.getEmail());
+                        return true;
+                    } catch (RuntimeException e) {
+                        return false;
+                    }
+                }));
+            }
+            go.countDown();
+        } finally {
+            pool.shutdown();
+        }
+        int accepted = 0;
+        for (Future<Boolean> attempt : attempts) {
+            accepted += attempt.get() ? 1 : 0;
+        }
+
+        // Assert
+        assertEquals(CAPACITY, rsvpRepository.countByEventId(event.getId()));
+        assertEquals(CAPACITY, accepted);
+    }
+
+    private static User user(User.Role role) {
+        return User.builder()
+                .name(role.name())
+                .email("user-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("unused")
+                .role(role)
+                .build();
+    }
+}
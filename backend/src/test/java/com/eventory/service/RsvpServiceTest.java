@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -37,6 +38,9 @@ class RsvpServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private QrCodeGenerator qrCodeGenerator = new QrCodeGenerator();
+
     @InjectMocks
     private RsvpService rsvpService;
 
@@ -124,6 +128,8 @@ class RsvpServiceTest {
         // Act & Assert
         assertThrows(RuntimeException.class,
                 () -> rsvpService.createRsvp(testEvent.getId(), "user@example.com"));
+        verify(eventRepository).lockById(testEvent.getId());
+        verify(rsvpRepository, never()).save(any(Rsvp.class));
     }
 
     @Test
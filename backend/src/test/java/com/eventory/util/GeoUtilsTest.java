@@ -0,0 +1,45 @@
+package com.eventory.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoUtilsTest {
+
+    @Test
+    void distanceKm_SamePoint_ShouldBeZero() {
+        // Act
+        double distance = GeoUtils.distanceKm(40.7128, -74.0060, 40.7128, -74.0060);
+
+        // Assert
+        assertEquals(0.0, distance, 1e-9);
+    }
+
+    @Test
+    void distanceKm_NewYorkToLondon_ShouldMatchKnownDistance() {
+        // Act
+        double distance = GeoUtils.distanceKm(40.7128, -74.0060, 51.5074, -0.1278);
+
+        // Assert
+        assertEquals(5570, distance, 5);
+    }
+
+    @Test
+    void distanceKm_ShouldBeSymmetric() {
+        // Act
+        double there = GeoUtils.distanceKm(40.7128, -74.0060, 34.0522, -118.2437);
+        double back = GeoUtils.distanceKm(34.0522, -118.2437, 40.7128, -74.0060);
+
+        // Assert
+        assertEquals(there, back, 1e-9);
+    }
+
+    @Test
+    void distanceKm_AntipodalPoints_ShouldBeHalfCircumference() {
+        // Act
+        double distance = GeoUtils.distanceKm(0, 0, 0, 180);
+
+        // Assert
+        assertEquals(Math.PI * GeoUtils.EARTH_RADIUS_KM, distance, 1e-6);
+    }
+}
@@ -0,0 +1,17 @@
+#!/usr/bin/env bash
+# Builds the benchmarks against the checked-out backend and records the results under
+# benchmarks/results/<commit>.{txt,json}. Extra arguments go to JMH, e.g. a benchmark regex.
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+commit="$(git -C "$root" rev-parse --short HEAD)"
+if [ -n "$(git -C "$root" status --porcelain -- backend benchmarks)" ]; then
+  commit="$commit-dirty"
+fi
+results="$root/benchmarks/results"
+mkdir -p "$results"
+
+mvn -B -q -f "$root/pom.xml" -pl benchmarks -am package -DskipTests
+java -jar "$root/benchmarks/target/benchmarks.jar" \
+  -rf json -rff "$results/$commit.json" -o "$results/$commit.txt" "$@"
+tail -n 20 "$results/$commit.txt"
@@ -0,0 +1,55 @@
+package com.eventory.catalog;
+
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time-window queries over a large schedule: what is on now, and what is on over a weekend.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class EventScheduleBenchmark {
+
+    @Param("100000")
+    private int events;
+
+    private EventSchedule schedule;
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+        EventCatalog catalog = new EventCatalog(null, bus);
+        schedule = new EventSchedule(null, catalog, bus);
+
+        Random random = new Random(42);
+        now = LocalDateTime.now();
+        for (int i = 0; i < events; i++) {
+            // Spread over 90 days; mostly a few hours, one in fifty a multi-week run
+            LocalDateTime start = now.plusMinutes(random.nextInt(60 * 24 * 90) - 60 * 24);
+            long minutes = random.nextInt(50) == 0 ? random.nextInt(60 * 24 * 30) : 60 + random.nextInt(60 * 4);
+            schedule.onEventChanged(null, new CatalogEntry(new UUID(random.nextLong(), random.nextLong()),
+                    "Event " + i, null, null, "music", 40.7, -74.0, start, start.plusMinutes(minutes)));
+        }
+    }
+
+    @Benchmark
+    public List<UUID> happeningNow() {
+        return schedule.overlapping(now, now, null);
+    }
+
+    @Benchmark
+    public List<UUID> weekend() {
+        return schedule.overlapping(now.plusDays(5), now.plusDays(7), null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.eventory.dto;
+
+import com.eventory.model.User;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writing an event feed to JSON, with the defaults Spring MVC's message converter uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class EventListSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int events;
+
+    private ObjectWriter writer;
+    private List<EventResponse> feed;
+
+    @Setup
+    public void setUp() {
+        writer = Jackson2ObjectMapperBuilder.json().build().writerFor(List.class);
+        User organizer = Fixtures.organizer();
+        feed = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            feed.add(EventResponse.fromEvent(Fixtures.event(i, organizer), (long) i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return writer.writeValueAsBytes(feed);
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventory.dto;
+
+import com.eventory.model.Event;
+import com.eventory.model.User;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Fixed, realistic rows so runs on different commits measure the same data. */
+final class Fixtures {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 19, 0);
+
+    private Fixtures() {
+    }
+
+    static UUID id(long n) {
+        return new UUID(0x0190_0000_0000_7000L, n);
+    }
+
+    static User organizer() {
+        return User.builder()
+                .id(id(1_000_000))
+                .email("organizer@example.com")
+                .name("Riverside Events Collective")
+                .role(User.Role.ORGANIZER)
+                .build();
+    }
+
+    static Event event(int n, User organizer) {
+        return Event.builder()
+                .id(id(n))
+                .organizer(organizer)
+                .title("Summer Rooftop Jazz Night #" + n)
+                .description("An evening of live jazz on the rooftop terrace, with local food vendors, "
+                        + "a cash bar and a late set from the house band. Doors open 30 minutes early.")
+                .imageUrl("https://images.example.com/events/" + n + ".jpg")
+                .latitude(40.7128 + n * 0.001)
+                .longitude(-74.0060 - n * 0.001)
+                .address(n + " Hudson Street, New York, NY 10013")
+                .venueName("The Rooftop at Hudson")
+                .startTime(START.plusDays(n))
+                .endTime(START.plusDays(n).plusHours(3))
+                .category("music")
+                .isFree(n % 2 == 0)
+                .price(n % 2 == 0 ? BigDecimal.ZERO : new BigDecimal("25.00"))
+                .maxAttendees(250)
+                .createdAt(START.minusWeeks(2))
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.eventory.dto;
+
+import com.eventory.model.Event;
+import com.eventory.model.Rsvp;
+import com.eventory.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-response mapping done once per row of every event and RSVP listing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseMappingBenchmark {
+
+    private Event event;
+    private Rsvp rsvp;
+
+    @Setup
+    public void setUp() {
+        event = Fixtures.event(0, Fixtures.organizer());
+        rsvp = Rsvp.builder()
+                .id(Fixtures.id(1))
+                .event(event)
+                .user(User.builder()
+                        .id(Fixtures.id(2))
+                        .email("attendee@example.com")
+                        .name("Attendee")
+                        .role(User.Role.ATTENDEE)
+                        .build())
+                .qrCode("EVENTORY-0a1b2c3d-4e5f6a7b-8c9d0e1f")
+                .checkedIn(true)
+                .checkedInAt(LocalDateTime.of(2025, 6, 1, 19, 5))
+                .build();
+    }
+
+    @Benchmark
+    public EventResponse fromEvent() {
+        return EventResponse.fromEvent(event, 42L);
+    }
+
+    @Benchmark
+    public RsvpResponse fromRsvp() {
+        return RsvpResponse.fromRsvp(rsvp);
+    }
+}
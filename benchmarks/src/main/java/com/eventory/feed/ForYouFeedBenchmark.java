@@ -0,0 +1,67 @@
+package com.eventory.feed;
+
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ranking the whole upcoming catalog for one user, the cost of every for-you request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class ForYouFeedBenchmark {
+
+    private static final String[] CATEGORIES = {"music", "tech", "sports", "art", "food", "business", "meetup"};
+
+    @Param("100000")
+    private int candidates;
+
+    @Param({"20", "100"})
+    private int limit;
+
+    private ForYouFeed feed;
+    private int interests;
+
+    @Setup
+    public void setUp() {
+        InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+        EventCatalog catalog = new EventCatalog(null, bus);
+        feed = new ForYouFeed(catalog, new AttendeeCounts(null, catalog, bus));
+
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < candidates; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            LocalDateTime start = now.plusMinutes(10 + random.nextInt(60 * 24 * 90));
+            feed.onEventChanged(null, new CatalogEntry(id, "Event " + i, null, null,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    40.7128 + random.nextGaussian(), -74.0060 + random.nextGaussian(), start, start.plusHours(2)));
+            if (random.nextInt(3) == 0) {
+                feed.onCountChanged(id, random.nextInt(500));
+            }
+        }
+        interests = Interests.parse("music,tech");
+    }
+
+    @Benchmark
+    public List<ForYouFeed.Hit> topWithLocation() {
+        return feed.top(interests, 40.7128, -74.0060, limit);
+    }
+
+    @Benchmark
+    public List<ForYouFeed.Hit> topWithoutLocation() {
+        return feed.top(interests, null, null, limit);
+    }
+}
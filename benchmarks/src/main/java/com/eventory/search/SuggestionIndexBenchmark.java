@@ -0,0 +1,105 @@
+package com.eventory.search;
+
+import com.eventory.cache.InProcessCacheInvalidationBus;
+import com.eventory.catalog.AttendeeCounts;
+import com.eventory.catalog.CatalogEntry;
+import com.eventory.catalog.EventCatalog;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete lookups over a large catalog, and the incremental update an RSVP costs. Setup
+ * fails if the index grows past {@link #MAX_BYTES_PER_TEXT} per indexed text.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class SuggestionIndexBenchmark {
+
+    private static final String[] CATEGORIES = {"music", "tech", "sports", "art", "food", "business", "meetup"};
+    private static final String[] KINDS = {"Night", "Meetup", "Festival", "Workshop", "Live", "Market", "Jam"};
+    /** Retained heap per indexed text, including the benchmark's own id and count arrays. */
+    private static final long MAX_BYTES_PER_TEXT = 600;
+
+    @Param("100000")
+    private int events;
+
+    @Param({"m", "mus", "music fest"})
+    private String prefix;
+
+    private SuggestionIndex index;
+    private UUID[] ids;
+    private long[] counts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        long before = usedHeap();
+        InProcessCacheInvalidationBus bus = new InProcessCacheInvalidationBus();
+        EventCatalog catalog = new EventCatalog(null, bus);
+        index = new SuggestionIndex(catalog, new AttendeeCounts(null, catalog, bus));
+
+        Random random = new Random(42);
+        String[] words = new String[2000];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = word(random);
+        }
+        words[0] = "Music";
+        ids = new UUID[events];
+        counts = new long[events];
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < events; i++) {
+            ids[i] = new UUID(random.nextLong(), random.nextLong());
+            String title = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)]
+                    + " " + KINDS[random.nextInt(KINDS.length)];
+            String venue = words[random.nextInt(words.length)] + " " + (random.nextBoolean() ? "Hall" : "Club");
+            index.onEventChanged(null, new CatalogEntry(ids[i], title, null, venue,
+                    CATEGORIES[random.nextInt(CATEGORIES.length)], 40.7, -74.0, start.plusHours(i),
+                    start.plusHours(i + 2)));
+            counts[i] = random.nextInt(3) == 0 ? random.nextInt(500) : 0;
+            index.onCountChanged(ids[i], counts[i]);
+        }
+
+        long bytesPerText = (usedHeap() - before) / index.size();
+        System.out.printf("%n%d texts, %d bytes per text%n", index.size(), bytesPerText);
+        if (bytesPerText > MAX_BYTES_PER_TEXT) {
+            throw new IllegalStateException("Suggestion index takes " + bytesPerText
+                    + " bytes per text, over the " + MAX_BYTES_PER_TEXT + " byte bound");
+        }
+    }
+
+    @Benchmark
+    public List<Suggestion> suggest() {
+        return index.suggest(prefix, SuggestionIndex.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public void rsvp() {
+        int i = next++ % events;
+        index.onCountChanged(ids[i], ++counts[i]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static String word(Random random) {
+        char[] letters = new char[4 + random.nextInt(6)];
+        for (int i = 0; i < letters.length; i++) {
+            letters[i] = (char) ('a' + random.nextInt(26));
+        }
+        letters[0] = Character.toUpperCase(letters[0]);
+        return new String(letters);
+    }
+}
@@ -0,0 +1,70 @@
+package com.eventory.security;
+
+import com.eventory.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing an access token and of validating one per request, next to the old approach of
+ * building a fresh parser and key for each of the three parses a request used to do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "eventory-super-secret-key-that-should-be-changed-in-production-min-256-bits";
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET, 900_000L);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .email("bench@example.com")
+                .name("Bench User")
+                .role(User.Role.ATTENDEE)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken verify() {
+        return jwtService.verify(token);
+    }
+
+    /** What the filter used to do: extract the subject, then re-parse twice inside isTokenValid. */
+    @Benchmark
+    public boolean verifyWithParserPerParse() {
+        String username = parseWithFreshParser(token).getSubject();
+        boolean subjectMatches = parseWithFreshParser(token).getSubject().equals(user.getEmail());
+        boolean expired = parseWithFreshParser(token).getExpiration().before(new Date());
+        return username != null && subjectMatches && !expired;
+    }
+
+    private static Claims parseWithFreshParser(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,27 @@
+package com.eventory.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QR code generation on every RSVP.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QrCodeBenchmark {
+
+    private final QrCodeGenerator generator = new QrCodeGenerator();
+    private final UUID eventId = UUID.fromString("01900000-0000-7000-8000-000000000001");
+    private final UUID userId = UUID.fromString("01900000-0000-7000-8000-000000000002");
+
+    @Benchmark
+    public String generateQrCode() {
+        return generator.generate(eventId, userId);
+    }
+}
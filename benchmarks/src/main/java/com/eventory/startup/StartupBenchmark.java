@@ -0,0 +1,139 @@
+package com.eventory.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures time-to-first-request: from launching the backend process until it answers an HTTP
+ * request, which covers JVM start, Flyway, Hibernate bootstrap and security setup. Also samples
+ * the resident set size once the first response is in. Each launch configuration is given as
+ * {@code label=command}; {@code --server.port} is appended to every command:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.eventory.startup.StartupBenchmark runs=10 \
+ *     "jar=java -jar backend/target/eventory-backend-1.0.0-exec.jar" \
+ *     "aot=java -Dspring.aot.enabled=true -jar backend/target/eventory-backend-1.0.0.jar"
+ * </pre>
+ * {@code benchmarks/startup.sh} builds the AOT/CDS variants and runs the standard comparison.
+ */
+public final class StartupBenchmark {
+
+    private static final String PROBE_PATH = "/api/events";
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int runs = 5;
+        Map<String, List<String>> commands = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected runs=N or label=command but got '" + arg + "'");
+            }
+            String key = arg.substring(0, separator);
+            String value = arg.substring(separator + 1).trim();
+            if (key.equals("runs")) {
+                runs = Integer.parseInt(value);
+            } else {
+                commands.put(key, Arrays.asList(value.split("\\s+")));
+            }
+        }
+        if (commands.isEmpty()) {
+            throw new IllegalArgumentException("No launch commands given");
+        }
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofMillis(200)).build();
+        StringBuilder report = new StringBuilder(String.format("%n%-12s %6s %12s %12s %12s %10s%n",
+                "launch", "runs", "median ms", "min ms", "max ms", "RSS MB"));
+        for (Map.Entry<String, List<String>> command : commands.entrySet()) {
+            long[] millis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] sample = launch(client, command.getKey(), command.getValue());
+                millis[run] = sample[0];
+                rssKb[run] = sample[1];
+                System.out.printf("%s #%d: %d ms, %s%n", command.getKey(), run + 1, millis[run],
+                        rssKb[run] < 0 ? "RSS n/a" : rssKb[run] / 1024 + " MB RSS");
+            }
+            Arrays.sort(millis);
+            Arrays.sort(rssKb);
+            long medianRss = rssKb[runs / 2];
+            report.append(String.format("%-12s %6d %12d %12d %12d %10s%n", command.getKey(), runs,
+                    millis[runs / 2], millis[0], millis[runs - 1],
+                    medianRss < 0 ? "n/a" : String.valueOf(medianRss / 1024)));
+        }
+        System.out.print(report);
+    }
+
+    /** Returns milliseconds until the first response and the resident set size in kB (-1 if unknown). */
+    private static long[] launch(HttpClient client, String label, List<String> command) throws Exception {
+        int port = freePort();
+        List<String> arguments = new ArrayList<>(command);
+        arguments.add("--server.port=" + port);
+        Path log = Files.createTempFile("startup-" + label + "-", ".log");
+        HttpRequest probe = HttpRequest.newBuilder(URI.create("http://localhost:" + port + PROBE_PATH))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(label + " exited with " + process.exitValue() + ", see " + log);
+                }
+                if (System.nanoTime() - start > TIMEOUT.toNanos()) {
+                    throw new IllegalStateException(label + " did not answer within " + TIMEOUT + ", see " + log);
+                }
+                try {
+                    client.send(probe, HttpResponse.BodyHandlers.discarding());
+                    break;
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(5);
+                }
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+            long rss = residentSetKb(process.pid());
+            Files.delete(log);
+            return new long[] {millis, rss};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static long residentSetKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        for (String line : Files.readAllLines(status)) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
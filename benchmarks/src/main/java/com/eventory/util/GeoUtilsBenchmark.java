@@ -0,0 +1,28 @@
+package com.eventory.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Haversine distance, the per-candidate cost of any in-memory radius filter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GeoUtilsBenchmark {
+
+    // Non-final so the JIT cannot fold the computation into a constant
+    private double fromLat = 40.7128;
+    private double fromLng = -74.0060;
+    private double toLat = 40.7306;
+    private double toLng = -73.9352;
+
+    @Benchmark
+    public double distanceKm() {
+        return GeoUtils.distanceKm(fromLat, fromLng, toLat, toLng);
+    }
+}
@@ -0,0 +1,20 @@
+#!/usr/bin/env bash
+# Builds the backend with the aot profile (AOT-processed classes plus an AppCDS archive from a
+# training run) and compares time-to-first-request against the plain executable jar.
+# A native executable from mvn -Pnative package is included when present.
+# Extra arguments go to StartupBenchmark, e.g. runs=10.
+set -euo pipefail
+
+root="$(cd "$(dirname "$0")/.." && pwd)"
+backend="$root/backend/target"
+
+mvn -B -q -f "$root/pom.xml" -pl benchmarks -am package -DskipTests -Paot
+launches=(
+  "jar=java -jar $backend/eventory-backend-1.0.0-exec.jar"
+  "aot=java -Dspring.aot.enabled=true -jar $backend/eventory-backend-1.0.0.jar"
+  "aot+cds=java -XX:SharedArchiveFile=$backend/eventory.jsa -Dspring.aot.enabled=true -jar $backend/eventory-backend-1.0.0.jar"
+)
+if [ -x "$backend/eventory-backend" ]; then
+  launches+=("native=$backend/eventory-backend")
+fi
+java -cp "$root/benchmarks/target/benchmarks.jar" com.eventory.startup.StartupBenchmark "$@" "${launches[@]}"
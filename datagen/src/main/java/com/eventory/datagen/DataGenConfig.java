@@ -0,0 +1,112 @@
+package com.eventory.datagen;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code key=value} pairs; anything omitted keeps its default.
+ *
+ * @param users      accounts to create; the first {@code organizers} of them are organizers
+ * @param events     events, spread over cities, categories and a time window around now
+ * @param rsvps      RSVPs in total, shared evenly between users and skewed across events
+ * @param zipf       popularity exponent: 0 spreads RSVPs evenly, 1 and above concentrates them
+ * @param spreadKm   standard deviation of an event's distance from its city centre
+ * @param days       events start up to this many days ahead
+ * @param past       fraction of events that already took place, with most tickets checked in
+ * @param threads    parallel connections for the RSVP load; results depend on it only through
+ *                   how users are partitioned
+ * @param epoch      the "now" that ids, event times and ticket times are generated around;
+ *                   defaults to the start of the current UTC day. The same seed, epoch and
+ *                   threads load identical rows
+ */
+public record DataGenConfig(String url, String dbUser, String dbPassword, String loginPassword,
+                            int users, int organizers, int events, long rsvps,
+                            double zipf, double spreadKm, int days, double past,
+                            List<City> cities, List<String> categories, double[] categoryWeights,
+                            int threads, int batchSize, long seed, Instant epoch, boolean migrate) {
+
+    static final String DEFAULT_CITIES = "New York:40.7128:-74.0060:8.3,Los Angeles:34.0522:-118.2437:3.9,"
+            + "Chicago:41.8781:-87.6298:2.7,London:51.5074:-0.1278:8.9,Berlin:52.5200:13.4050:3.6,"
+            + "Paris:48.8566:2.3522:2.1,Toronto:43.6532:-79.3832:2.8,Sydney:-33.8688:151.2093:5.3";
+    static final String DEFAULT_CATEGORIES = "music:25,tech:18,food:15,sports:14,art:10,networking:10,outdoors:8";
+
+    public record City(String name, double latitude, double longitude, double weight) {
+    }
+
+    public static DataGenConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        List<String> categories = new ArrayList<>();
+        List<Double> weights = new ArrayList<>();
+        for (String entry : value(values, "categories", DEFAULT_CATEGORIES).split(",")) {
+            String[] parts = entry.split(":");
+            categories.add(parts[0].trim());
+            weights.add(parts.length > 1 ? Double.parseDouble(parts[1]) : 1.0);
+        }
+        List<City> cities = new ArrayList<>();
+        for (String entry : value(values, "cities", DEFAULT_CITIES).split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Expected name:lat:lng:weight but got '" + entry + "'");
+            }
+            cities.add(new City(parts[0].trim(), Double.parseDouble(parts[1]), Double.parseDouble(parts[2]),
+                    Double.parseDouble(parts[3])));
+        }
+
+        DataGenConfig config = new DataGenConfig(
+                value(values, "url", "jdbc:h2:file:./eventory-data/eventorydb"),
+                value(values, "db-user", "sa"),
+                value(values, "db-password", ""),
+                value(values, "login-password", "password123"),
+                Integer.parseInt(value(values, "users", "1000000")),
+                Integer.parseInt(value(values, "organizers", "10000")),
+                Integer.parseInt(value(values, "events", "200000")),
+                Long.parseLong(value(values, "rsvps", "10000000")),
+                Double.parseDouble(value(values, "zipf", "1.0")),
+                Double.parseDouble(value(values, "spread-km", "8")),
+                Integer.parseInt(value(values, "days", "120")),
+                Double.parseDouble(value(values, "past", "0.1")),
+                cities,
+                categories,
+                weights.stream().mapToDouble(Double::doubleValue).toArray(),
+                Integer.parseInt(value(values, "threads", String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(value(values, "batch", "5000")),
+                Long.parseLong(value(values, "seed", "42")),
+                Instant.parse(value(values, "epoch", Instant.now().truncatedTo(ChronoUnit.DAYS).toString())),
+                Boolean.parseBoolean(value(values, "migrate", "true")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown settings: " + values.keySet());
+        }
+        if (config.organizers() < 1 || config.organizers() > config.users()) {
+            throw new IllegalArgumentException("organizers must be between 1 and users");
+        }
+        if (config.rsvps() > (long) config.users() * config.events()) {
+            throw new IllegalArgumentException("rsvps cannot exceed users * events");
+        }
+        return config;
+    }
+
+    private static String value(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("url=%s users=%d organizers=%d events=%d rsvps=%d zipf=%.2f spread-km=%.1f days=%d "
+                        + "past=%.2f cities=%d categories=%s threads=%d batch=%d seed=%d epoch=%s",
+                url, users, organizers, events, rsvps, zipf, spreadKm, days, past, cities.size(), categories,
+                threads, batchSize, seed, epoch);
+    }
+}
@@ -0,0 +1,443 @@
+package com.eventory.datagen;
+
+import com.eventory.model.TimeOrderedUuidGenerator;
+import com.eventory.model.User;
+import org.flywaydb.core.Flyway;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk-loads a synthetic but realistically shaped data set straight into the schema, through
+ * {@code COPY} on PostgreSQL and batched JDBC inserts elsewhere:
+ * <ul>
+ *     <li>users, the first of them organizers, with one to three weighted interests each</li>
+ *     <li>events clustered around weighted city centres, with a weighted category mix</li>
+ *     <li>RSVPs spread evenly over users and skewed across events by a Zipf popularity curve;
+ *     tickets for events that already took place are mostly checked in</li>
+ * </ul>
+ * Every generated account logs in with {@code login-password}. Ids, password salts and timestamps
+ * all derive from the seed and the epoch, so a run can be repeated exactly. Point it at an empty
+ * database:
+ * <pre>
+ * mvn -pl datagen -am package -DskipTests
+ * java -jar datagen/target/datagen.jar rsvps=10000000
+ * java -jar datagen/target/datagen.jar url=jdbc:postgresql://localhost/eventory \
+ *     db-user=eventory db-password=secret threads=8 batch=50000
+ * </pre>
+ * See {@link DataGenConfig} for every setting.
+ */
+public final class DataGenerator {
+
+    private static final String[] FIRST_NAMES = {"Ava", "Ben", "Chloe", "Daniel", "Emma", "Felix", "Grace", "Hugo",
+            "Isla", "Jack", "Kira", "Leo", "Maya", "Noah", "Olivia", "Priya", "Quinn", "Ravi", "Sofia", "Tom"};
+    private static final String[] LAST_NAMES = {"Anderson", "Brown", "Chen", "Dubois", "Evans", "Fischer", "Garcia",
+            "Hughes", "Ito", "Jones", "Kim", "Lopez", "Müller", "Nguyen", "O'Brien", "Patel", "Rossi", "Smith"};
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final double CHECK_IN_RATE = 0.7;
+    /**
+     * The plain secondary indexes on rsvps. Building them once after the load is cheaper than
+     * updating them row by row; primary keys, unique constraints and foreign keys stay in place.
+     */
+    private static final String[] RSVP_INDEXES = {
+            "idx_rsvps_event_id ON rsvps(event_id)",
+            "idx_rsvps_user_id ON rsvps(user_id)",
+            "idx_rsvps_qr_code ON rsvps(qr_code)",
+            "idx_rsvps_created_at ON rsvps(created_at)"
+    };
+
+    private final DataGenConfig config;
+    private final Clock clock;
+    private final LocalDateTime now;
+    private final WeightedChoice<String> categories;
+    private final WeightedChoice<DataGenConfig.City> cities;
+    private final AtomicLong inserted = new AtomicLong();
+
+    private UUID[] userIds;
+    private UUID[] eventIds;
+    private LocalDateTime[] eventStarts;
+
+    private DataGenerator(DataGenConfig config) {
+        this.config = config;
+        this.clock = Clock.fixed(config.epoch(), ZoneOffset.UTC);
+        this.now = LocalDateTime.ofInstant(config.epoch(), ZoneOffset.UTC);
+        this.categories = new WeightedChoice<>(config.categories(), config.categoryWeights());
+        this.cities = new WeightedChoice<>(config.cities(),
+                config.cities().stream().mapToDouble(DataGenConfig.City::weight).toArray());
+    }
+
+    public static void main(String[] args) throws Exception {
+        DataGenConfig config = DataGenConfig.parse(args);
+        System.out.println(config);
+
+        if (config.migrate()) {
+            Flyway.configure()
+                    .dataSource(config.url(), config.dbUser(), config.dbPassword())
+                    .locations("classpath:db/migration")
+                    .load()
+                    .migrate();
+        }
+        new DataGenerator(config).run();
+    }
+
+    private void run() throws Exception {
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        progress.scheduleAtFixedRate(() -> System.out.printf("  %,d rows, %.0f rows/s%n",
+                inserted.get(), inserted.get() / ((System.nanoTime() - start) / 1e9)), 5, 5, TimeUnit.SECONDS);
+        try {
+            timed("users", this::insertUsers);
+            timed("events", this::insertEvents);
+            timed("rsvps", this::insertRsvps);
+        } finally {
+            progress.shutdownNow();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Done: %,d rows in %.1fs (%.0f rows/s)%n", inserted.get(), seconds, inserted.get() / seconds);
+    }
+
+    private void insertUsers() throws SQLException, NoSuchAlgorithmException {
+        // SHA1PRNG seeded before first use is deterministic, so the salt repeats too
+        SecureRandom salt = SecureRandom.getInstance("SHA1PRNG");
+        salt.setSeed(config.seed());
+        String passwordHash = new BCryptPasswordEncoder(10, salt).encode(config.loginPassword());
+        Random random = new Random(config.seed());
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator(clock, random);
+        userIds = new UUID[config.users()];
+
+        try (Batch batch = batch("users",
+                "id, email, password_hash, name, role, interests, created_at, updated_at")) {
+            for (int i = 0; i < config.users(); i++) {
+                userIds[i] = ids.next();
+                Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(2 * 365 * 24 * 60)));
+                batch.add(userIds[i],
+                        "user" + i + "@datagen.example",
+                        passwordHash,
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                                + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                        (i < config.organizers() ? User.Role.ORGANIZER : User.Role.ATTENDEE).name(),
+                        interests(random),
+                        createdAt,
+                        createdAt);
+            }
+        }
+    }
+
+    private void insertEvents() throws SQLException {
+        Random random = new Random(config.seed() + 1);
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator(clock, random);
+        eventIds = new UUID[config.events()];
+        eventStarts = new LocalDateTime[config.events()];
+        int horizonMinutes = config.days() * 24 * 60;
+
+        try (Batch batch = batch("events", "id, organizer_id, title, description, latitude, longitude, address, "
+                + "venue_name, start_time, end_time, category, is_free, price, max_attendees, created_at, updated_at")) {
+            for (int i = 0; i < config.events(); i++) {
+                eventIds[i] = ids.next();
+                // Already-finished events start up to a quarter of the horizon ago
+                LocalDateTime start = random.nextDouble() < config.past()
+                        ? now.minusMinutes(1 + random.nextInt(Math.max(1, horizonMinutes / 4)))
+                        : now.plusMinutes(1 + random.nextInt(horizonMinutes));
+                eventStarts[i] = start;
+
+                DataGenConfig.City city = cities.next(random);
+                double north = random.nextGaussian() * config.spreadKm();
+                double east = random.nextGaussian() * config.spreadKm();
+                double latitude = city.latitude() + north / KM_PER_DEGREE;
+                double longitude = city.longitude()
+                        + east / (KM_PER_DEGREE * Math.cos(Math.toRadians(city.latitude())));
+                String category = categories.next(random);
+                boolean free = random.nextDouble() < 0.6;
+                LocalDateTime listed = start.minusDays(1 + random.nextInt(60));
+                LocalDateTime createdAt = listed.isBefore(now) ? listed : now;
+
+                batch.add(eventIds[i],
+                        userIds[random.nextInt(config.organizers())],
+                        capitalize(category) + " night #" + i,
+                        capitalize(category) + " event in " + city.name() + ".",
+                        latitude,
+                        longitude,
+                        (1 + random.nextInt(400)) + " Main Street, " + city.name(),
+                        city.name() + " Hall " + (1 + random.nextInt(50)),
+                        Timestamp.valueOf(start),
+                        Timestamp.valueOf(start.plusHours(1 + random.nextInt(6))),
+                        category,
+                        free,
+                        free ? BigDecimal.ZERO : BigDecimal.valueOf(5 + random.nextInt(96)),
+                        null,
+                        Timestamp.valueOf(createdAt),
+                        Timestamp.valueOf(createdAt));
+            }
+        }
+    }
+
+    /**
+     * Users are split into one contiguous slice per thread, each loaded on its own connection,
+     * with the plain secondary indexes dropped for the duration.
+     */
+    private void insertRsvps() throws Exception {
+        WeightedChoice<Integer> popularity = WeightedChoice.zipf(config.events(), config.zipf());
+        // Popularity rank -> event, shuffled so popular events are not also the oldest ids
+        int[] eventByRank = shuffledIndexes(config.events(), new Random(config.seed() + 2));
+
+        int threads = Math.max(1, Math.min(config.threads(), config.users()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (String index : RSVP_INDEXES) {
+            execute("DROP INDEX IF EXISTS " + index.substring(0, index.indexOf(' ')));
+        }
+        try {
+            List<Future<?>> slices = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int from = (int) ((long) config.users() * t / threads);
+                int to = (int) ((long) config.users() * (t + 1) / threads);
+                long seed = config.seed() * 31 + t;
+                slices.add(executor.submit(() -> {
+                    insertRsvps(from, to, popularity, eventByRank, new Random(seed));
+                    return null;
+                }));
+            }
+            for (Future<?> slice : slices) {
+                slice.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            for (String index : RSVP_INDEXES) {
+                execute("CREATE INDEX IF NOT EXISTS " + index);
+            }
+        }
+    }
+
+    private void insertRsvps(int fromUser, int toUser, WeightedChoice<Integer> popularity, int[] eventByRank,
+                             Random random) throws SQLException {
+        TimeOrderedUuidGenerator ids = new TimeOrderedUuidGenerator(clock, random);
+        try (Batch batch = batch("rsvps", "id, event_id, user_id, qr_code, checked_in, checked_in_at, created_at")) {
+            for (int user = fromUser; user < toUser; user++) {
+                // Spreads the total exactly: user u gets floor((u+1)R/U) - floor(uR/U) RSVPs
+                long count = rsvpsBefore(user + 1) - rsvpsBefore(user);
+                for (int event : pickEvents((int) count, popularity, eventByRank, random)) {
+                    LocalDateTime start = eventStarts[event];
+                    LocalDateTime latest = start.isBefore(now) ? start : now;
+                    boolean checkedIn = start.isBefore(now) && random.nextDouble() < CHECK_IN_RATE;
+                    UUID id = ids.next();
+                    batch.add(id,
+                            eventIds[event],
+                            userIds[user],
+                            "EVENTORY-" + id,
+                            checkedIn,
+                            checkedIn ? Timestamp.valueOf(start.plusMinutes(random.nextInt(90))) : null,
+                            Timestamp.valueOf(latest.minusMinutes(1 + random.nextInt(30 * 24 * 60))));
+                }
+            }
+        }
+    }
+
+    private long rsvpsBefore(int user) {
+        return Math.floorDiv(config.rsvps() * user, config.users());
+    }
+
+    /** Distinct events drawn by popularity, falling back to uniform draws if the head is exhausted. */
+    private int[] pickEvents(int count, WeightedChoice<Integer> popularity, int[] eventByRank, Random random) {
+        count = Math.min(count, config.events());
+        Set<Integer> picked = new LinkedHashSet<>(count * 2);
+        int attempts = 0;
+        while (picked.size() < count) {
+            int event = attempts++ < count * 20
+                    ? eventByRank[popularity.next(random)]
+                    : random.nextInt(config.events());
+            picked.add(event);
+        }
+        return picked.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private String interests(Random random) {
+        Set<String> interests = new LinkedHashSet<>();
+        int count = 1 + random.nextInt(Math.min(3, config.categories().size()));
+        while (interests.size() < count) {
+            interests.add(categories.next(random));
+        }
+        return String.join(",", interests);
+    }
+
+    private static int[] shuffledIndexes(int n, Random random) {
+        int[] indexes = new int[n];
+        Arrays.setAll(indexes, i -> i);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private void timed(String table, Step step) throws Exception {
+        long before = inserted.get();
+        long start = System.nanoTime();
+        step.run();
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long rows = inserted.get() - before;
+        System.out.printf("%s: %,d rows in %.1fs (%.0f rows/s)%n", table, rows, seconds, rows / seconds);
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run() throws Exception;
+    }
+
+    private Batch batch(String table, String columns) throws SQLException {
+        return config.url().startsWith("jdbc:postgresql:")
+                ? new CopyBatch(table, columns)
+                : new InsertBatch(table, columns);
+    }
+
+    private void execute(String sql) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.url(), config.dbUser(), config.dbPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /** Rows for one table on their own connection, sent and committed every {@code batch} rows. */
+    private abstract class Batch implements AutoCloseable {
+
+        final Connection connection;
+        private int pending;
+
+        Batch() throws SQLException {
+            connection = DriverManager.getConnection(config.url(), config.dbUser(), config.dbPassword());
+            connection.setAutoCommit(false);
+        }
+
+        void add(Object... values) throws SQLException {
+            write(values);
+            if (++pending == config.batchSize()) {
+                flush();
+            }
+        }
+
+        abstract void write(Object[] values) throws SQLException;
+
+        abstract void send() throws SQLException;
+
+        private void flush() throws SQLException {
+            send();
+            connection.commit();
+            inserted.addAndGet(pending);
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    flush();
+                }
+            } finally {
+                connection.close();
+            }
+        }
+    }
+
+    /** A prepared insert, executed as a JDBC batch. */
+    private final class InsertBatch extends Batch {
+
+        private final PreparedStatement statement;
+
+        InsertBatch(String table, String columns) throws SQLException {
+            int count = columns.split(",").length;
+            statement = connection.prepareStatement("INSERT INTO " + table + " (" + columns + ") VALUES ("
+                    + "?, ".repeat(count - 1) + "?)");
+        }
+
+        @Override
+        void write(Object[] values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+        }
+
+        @Override
+        void send() throws SQLException {
+            statement.executeBatch();
+        }
+    }
+
+    /**
+     * PostgreSQL's {@code COPY FROM STDIN} in CSV format, which skips per-row statement
+     * processing altogether.
+     */
+    private final class CopyBatch extends Batch {
+
+        private final CopyManager copyManager;
+        private final String sql;
+        private final StringBuilder rows = new StringBuilder();
+
+        CopyBatch(String table, String columns) throws SQLException {
+            copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+        }
+
+        @Override
+        void write(Object[] values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    rows.append(',');
+                }
+                // An unquoted empty field is NULL; strings are always quoted so "" stays empty
+                if (values[i] instanceof String text) {
+                    rows.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (values[i] != null) {
+                    rows.append(values[i]);
+                }
+            }
+            rows.append('\n');
+        }
+
+        @Override
+        void send() throws SQLException {
+            try {
+                copyManager.copyIn(sql, new StringReader(rows.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY failed", e);
+            }
+            rows.setLength(0);
+        }
+    }
+}
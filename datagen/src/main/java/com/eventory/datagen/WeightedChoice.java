@@ -0,0 +1,57 @@
+package com.eventory.datagen;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Picks from a fixed set of values with probability proportional to their weights, in
+ * {@code O(log n)} per draw.
+ */
+final class WeightedChoice<T> {
+
+    private final List<T> values;
+    private final double[] cumulative;
+
+    WeightedChoice(List<T> values, double[] weights) {
+        if (values.isEmpty() || values.size() != weights.length) {
+            throw new IllegalArgumentException("Need one weight per value");
+        }
+        this.values = List.copyOf(values);
+        this.cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] < 0) {
+                throw new IllegalArgumentException("Weights must not be negative");
+            }
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+    }
+
+    /**
+     * Ranks 1..n weighted by {@code 1 / rank^exponent}: exponent 0 is uniform, around 1 gives the
+     * long tail of event popularity where a few events draw most of the RSVPs.
+     */
+    static WeightedChoice<Integer> zipf(int n, double exponent) {
+        Integer[] ranks = new Integer[n];
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            ranks[i] = i;
+            weights[i] = 1.0 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedChoice<>(Arrays.asList(ranks), weights);
+    }
+
+    T next(Random random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return values.get(Math.min(index, values.size() - 1));
+    }
+}
@@ -0,0 +1,58 @@
+package com.eventory.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataGeneratorTest {
+
+    @Test
+    void main_WithSameSeedAndEpoch_ShouldLoadIdenticalRows() throws Exception {
+        // Arrange
+        String first = "jdbc:h2:mem:datagen-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        String second = "jdbc:h2:mem:datagen-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+
+        // Act
+        generate(first);
+        generate(second);
+
+        // Assert
+        for (String table : List.of("users", "events", "rsvps")) {
+            List<List<Object>> rows = rows(first, table);
+            assertFalse(rows.isEmpty());
+            assertEquals(rows, rows(second, table), table);
+        }
+        assertEquals(2_000, rows(first, "rsvps").size());
+    }
+
+    private static void generate(String url) throws Exception {
+        DataGenerator.main(new String[] {"url=" + url, "users=200", "organizers=10", "events=100", "rsvps=2000",
+                "threads=2", "batch=128", "seed=7", "epoch=2030-01-01T00:00:00Z"});
+    }
+
+    private static List<List<Object>> rows(String url, String table) throws SQLException {
+        List<List<Object>> rows = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table + " ORDER BY id")) {
+            int columns = resultSet.getMetaData().getColumnCount();
+            while (resultSet.next()) {
+                List<Object> row = new ArrayList<>(columns);
+                for (int i = 1; i <= columns; i++) {
+                    row.add(resultSet.getObject(i));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,106 @@
+package com.eventory.datagen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedChoiceTest {
+
+    private static final int DRAWS = 200_000;
+
+    @Test
+    void next_ShouldPickValuesInProportionToTheirWeights() {
+        // Arrange
+        WeightedChoice<String> choice = new WeightedChoice<>(List.of("a", "b", "c"), new double[] {1, 2, 7});
+        Random random = new Random(42);
+        int[] counts = new int[3];
+
+        // Act
+        for (int i = 0; i < DRAWS; i++) {
+            counts[choice.next(random).charAt(0) - 'a']++;
+        }
+
+        // Assert
+        assertEquals(0.1, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(0.2, counts[1] / (double) DRAWS, 0.01);
+        assertEquals(0.7, counts[2] / (double) DRAWS, 0.01);
+    }
+
+    @Test
+    void next_ShouldNeverPickAZeroWeight() {
+        // Arrange
+        WeightedChoice<String> choice = new WeightedChoice<>(List.of("a", "never", "b"), new double[] {1, 0, 1});
+        Random random = new Random(42);
+
+        // Act & Assert
+        for (int i = 0; i < DRAWS; i++) {
+            assertNotEquals("never", choice.next(random));
+        }
+    }
+
+    @Test
+    void next_WithSameSeed_ShouldRepeatTheSequence() {
+        // Arrange
+        WeightedChoice<String> choice = new WeightedChoice<>(List.of("a", "b", "c"), new double[] {3, 2, 1});
+        Random first = new Random(7);
+        Random second = new Random(7);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(choice.next(first), choice.next(second));
+        }
+    }
+
+    @Test
+    void constructor_WithInvalidWeights_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new WeightedChoice<>(List.of("a", "b"), new double[] {1}));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedChoice<>(List.of(), new double[0]));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedChoice<>(List.of("a"), new double[] {-1}));
+        assertThrows(IllegalArgumentException.class, () -> new WeightedChoice<>(List.of("a", "b"), new double[] {0, 0}));
+    }
+
+    @Test
+    void zipf_WithExponentZero_ShouldBeUniform() {
+        // Arrange
+        WeightedChoice<Integer> ranks = WeightedChoice.zipf(10, 0);
+        Random random = new Random(42);
+        int[] counts = new int[10];
+
+        // Act
+        for (int i = 0; i < DRAWS; i++) {
+            counts[ranks.next(random)]++;
+        }
+
+        // Assert
+        for (int count : counts) {
+            assertEquals(0.1, count / (double) DRAWS, 0.01);
+        }
+    }
+
+    @Test
+    void zipf_WithExponentOne_ShouldWeightRanksByTheirInverse() {
+        // Arrange
+        int n = 100;
+        WeightedChoice<Integer> ranks = WeightedChoice.zipf(n, 1.0);
+        Random random = new Random(42);
+        int[] counts = new int[n];
+        double harmonic = 0;
+        for (int k = 1; k <= n; k++) {
+            harmonic += 1.0 / k;
+        }
+
+        // Act
+        for (int i = 0; i < DRAWS; i++) {
+            counts[ranks.next(random)]++;
+        }
+
+        // Assert
+        assertEquals(1 / harmonic, counts[0] / (double) DRAWS, 0.01);
+        assertEquals(1 / (2 * harmonic), counts[1] / (double) DRAWS, 0.01);
+        assertEquals(1 / (10 * harmonic), counts[9] / (double) DRAWS, 0.005);
+        assertTrue(counts[0] > counts[9] && counts[9] > counts[n - 1]);
+    }
+}
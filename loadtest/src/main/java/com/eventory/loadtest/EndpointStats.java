@@ -0,0 +1,85 @@
+package com.eventory.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histograms and outcome counts per endpoint for one scenario. 4xx responses are counted
+ * apart from errors: in a ticket drop, "event is at full capacity" is the expected answer.
+ */
+class EndpointStats {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final long startedAt = System.nanoTime();
+    private volatile long finishedAt;
+
+    void record(String endpoint, int status, long nanos) {
+        Endpoint stats = endpoint(endpoint);
+        stats.latency.recordValue(Math.min(MAX_LATENCY_MICROS, Math.max(1, nanos / 1_000)));
+        if (status >= 500) {
+            stats.serverErrors.increment();
+        } else if (status >= 400) {
+            stats.rejected.increment();
+        }
+    }
+
+    void recordFailure(String endpoint) {
+        endpoint(endpoint).failures.increment();
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    long count(String endpoint) {
+        Endpoint stats = endpoints.get(endpoint);
+        return stats == null ? 0 : stats.latency.getTotalCount() - stats.rejected.sum() - stats.serverErrors.sum();
+    }
+
+    String report() {
+        double seconds = ((finishedAt != 0 ? finishedAt : System.nanoTime()) - startedAt) / 1e9;
+        StringBuilder report = new StringBuilder(String.format("%-34s %9s %9s %7s %7s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "req/s", "4xx %", "error %", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        new TreeMap<>(endpoints).forEach((name, stats) -> {
+            Histogram latency = stats.latency;
+            long responses = latency.getTotalCount();
+            long requests = responses + stats.failures.sum();
+            report.append(String.format("%-34s %9d %9.1f %7.2f %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    name, requests, requests / seconds,
+                    percent(stats.rejected.sum(), requests),
+                    percent(stats.serverErrors.sum() + stats.failures.sum(), requests),
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(95)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getMaxValue())));
+        });
+        return report.toString();
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, key -> new Endpoint());
+    }
+
+    private static double percent(long part, long whole) {
+        return whole == 0 ? 0 : 100.0 * part / whole;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class Endpoint {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder rejected = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder failures = new LongAdder();
+    }
+}
@@ -0,0 +1,254 @@
+package com.eventory.loadtest;
+
+import com.eventory.EventoryApplication;
+import com.eventory.model.User;
+import com.eventory.security.JwtService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boots the backend on an in-memory H2 database, seeds it and drives scripted traffic against its
+ * HTTP API, reporting throughput, 4xx and error rates and latency percentiles per endpoint:
+ * <ul>
+ *     <li>{@code browse}: the feed, category feeds and event details in a fixed mix</li>
+ *     <li>{@code nearby}: radius searches around the seeded cities</li>
+ *     <li>{@code ticket-drop}: every attendee RSVPs to one limited-capacity event at once</li>
+ *     <li>{@code check-in}: the organizer scans every ticket of that event as doors open</li>
+ * </ul>
+ * Build and run from the repository root, passing any {@link LoadTestConfig} settings:
+ * <pre>
+ * mvn -pl loadtest -am package -DskipTests
+ * java -jar loadtest/target/loadtest.jar users=20000 capacity=2000 clients=128 duration=60
+ * </pre>
+ */
+public final class LoadTest {
+
+    private final LoadTestConfig config;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+    private final String baseUrl;
+    private final JwtService jwtService;
+    private final JdbcTemplate jdbc;
+    private final Seeder.Dataset dataset;
+
+    private LoadTest(LoadTestConfig config, ConfigurableApplicationContext context) {
+        this.config = config;
+        this.baseUrl = "http://localhost:" + context.getEnvironment().getRequiredProperty("local.server.port");
+        this.jwtService = context.getBean(JwtService.class);
+        this.jdbc = context.getBean(JdbcTemplate.class);
+
+        long start = System.nanoTime();
+        this.dataset = new Seeder(jdbc, config.seed(), config.epoch()).seed(config);
+        System.out.printf("Seeded %d organizers, %d attendees, %d events and %d RSVPs in %.1fs%n",
+                config.organizers(), config.users(), config.events() + 1,
+                jdbc.queryForObject("SELECT COUNT(*) FROM rsvps", Long.class), (System.nanoTime() - start) / 1e9);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println(config);
+
+        try (ConfigurableApplicationContext context = start()) {
+            new LoadTest(config, context).run();
+        }
+    }
+
+    private static ConfigurableApplicationContext start() {
+        return new SpringApplicationBuilder(EventoryApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "server.tomcat.max-connections=20000",
+                        "server.tomcat.accept-count=10000",
+                        "security.rate-limit.enabled=false",
+                        "logging.level.com.eventory=INFO")
+                .run();
+    }
+
+    private void run() throws Exception {
+        if (!config.warmup().isZero()) {
+            System.out.printf("Warming up for %ds%n", config.warmup().toSeconds());
+            timed(config.warmup(), this::browse);
+        }
+        for (String scenario : config.scenarios()) {
+            switch (scenario) {
+                case "browse" -> print("browse", timed(config.duration(), this::browse));
+                case "nearby" -> print("nearby", timed(config.duration(), this::nearby));
+                case "ticket-drop" -> ticketDrop();
+                case "check-in" -> checkIn();
+                default -> throw new IllegalStateException(scenario);
+            }
+        }
+    }
+
+    private void browse(EndpointStats stats, Random random, String token) {
+        int roll = random.nextInt(100);
+        if (roll < 45) {
+            get(stats, "GET /api/events", "/api/events", token);
+        } else if (roll < 75) {
+            String category = Seeder.CATEGORIES[random.nextInt(Seeder.CATEGORIES.length)];
+            get(stats, "GET /api/events?category", "/api/events?category=" + category, token);
+        } else {
+            UUID event = dataset.events().get(random.nextInt(dataset.events().size()));
+            get(stats, "GET /api/events/{id}", "/api/events/" + event, token);
+        }
+    }
+
+    private void nearby(EndpointStats stats, Random random, String token) {
+        double[] city = Seeder.CITIES[random.nextInt(Seeder.CITIES.length)];
+        int radius = new int[] {5, 10, 25, 50}[random.nextInt(4)];
+        String query = String.format("/api/events?lat=%.5f&lng=%.5f&radius=%d",
+                city[0] + random.nextGaussian() * 0.02, city[1] + random.nextGaussian() * 0.02, radius);
+        if (random.nextInt(10) < 3) {
+            query += "&category=" + Seeder.CATEGORIES[random.nextInt(Seeder.CATEGORIES.length)];
+            get(stats, "GET /api/events?lat&lng&category", query, token);
+        } else {
+            get(stats, "GET /api/events?lat&lng", query, token);
+        }
+    }
+
+    /** All attendees are released at once against a handful of seats. */
+    private void ticketDrop() throws Exception {
+        List<HttpRequest> requests = new ArrayList<>(dataset.attendees().size());
+        for (User attendee : dataset.attendees()) {
+            requests.add(request("/api/events/" + dataset.hotEvent() + "/rsvp", attendee)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+        }
+
+        EndpointStats stats = burst(requests, config.stampede(), "POST /api/events/{id}/rsvp");
+        print("ticket-drop", stats);
+
+        long stored = jdbc.queryForObject("SELECT COUNT(*) FROM rsvps WHERE event_id = ?", Long.class,
+                dataset.hotEvent());
+        long accepted = stats.count("POST /api/events/{id}/rsvp");
+        System.out.printf("capacity %d, accepted %d, stored %d%s%n%n", config.capacity(), accepted, stored,
+                stored > config.capacity() ? " -> OVERSOLD by " + (stored - config.capacity()) : "");
+    }
+
+    /** The organizer scans every ticket for the ticket-drop event as fast as the clients allow. */
+    private void checkIn() throws Exception {
+        List<String> qrCodes = jdbc.queryForList("SELECT qr_code FROM rsvps WHERE event_id = ? AND checked_in = FALSE",
+                String.class, dataset.hotEvent());
+        List<HttpRequest> requests = new ArrayList<>(qrCodes.size());
+        for (String qrCode : qrCodes) {
+            requests.add(request("/api/rsvps/checkin", dataset.hotOrganizer())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"qrCode\":\"" + qrCode + "\"}"))
+                    .build());
+        }
+
+        EndpointStats stats = burst(requests, config.clients(), "POST /api/rsvps/checkin");
+        print("check-in", stats);
+        long checkedIn = jdbc.queryForObject("SELECT COUNT(*) FROM rsvps WHERE event_id = ? AND checked_in = TRUE",
+                Long.class, dataset.hotEvent());
+        System.out.printf("checked in %d of %d tickets%n%n", checkedIn, qrCodes.size());
+    }
+
+    /** Closed-loop traffic: each client sends its next request as soon as the previous one returns. */
+    private EndpointStats timed(Duration duration, Step step) throws Exception {
+        EndpointStats stats = new EndpointStats();
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService clients = Executors.newFixedThreadPool(config.clients());
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < config.clients(); i++) {
+                Random random = new Random(config.seed() + i);
+                String token = jwtService.generateToken(dataset.attendees().get(i % dataset.attendees().size()));
+                running.add(clients.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        step.run(stats, random, token);
+                    }
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+        stats.finish();
+        return stats;
+    }
+
+    /** Sends every request once, {@code concurrency} at a time, starting them all at the same instant. */
+    private EndpointStats burst(List<HttpRequest> requests, int concurrency, String endpoint) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch go = new CountDownLatch(1);
+        EndpointStats stats;
+        try {
+            List<Future<?>> sent = new ArrayList<>(requests.size());
+            stats = new EndpointStats();
+            for (HttpRequest request : requests) {
+                sent.add(clients.submit(() -> {
+                    go.await();
+                    send(stats, endpoint, request);
+                    return null;
+                }));
+            }
+            go.countDown();
+            for (Future<?> future : sent) {
+                future.get();
+            }
+        } finally {
+            clients.shutdown();
+            clients.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        stats.finish();
+        return stats;
+    }
+
+    private void get(EndpointStats stats, String endpoint, String path, String token) {
+        send(stats, endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build());
+    }
+
+    private void send(EndpointStats stats, String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            stats.record(endpoint, response.statusCode(), System.nanoTime() - start);
+        } catch (IOException e) {
+            stats.recordFailure(endpoint);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private HttpRequest.Builder request(String path, User user) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + jwtService.generateToken(user));
+    }
+
+    private static void print(String scenario, EndpointStats stats) {
+        System.out.printf("%n== %s ==%n%s%n", scenario, stats.report());
+    }
+
+    @FunctionalInterface
+    private interface Step {
+        void run(EndpointStats stats, Random random, String token);
+    }
+}
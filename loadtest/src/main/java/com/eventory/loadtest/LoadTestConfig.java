@@ -0,0 +1,75 @@
+package com.eventory.loadtest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command-line settings, given as {@code key=value} pairs; anything omitted keeps its default.
+ *
+ * @param organizers organizer accounts to seed
+ * @param events     upcoming events to seed, spread over the organizers and cities
+ * @param users      attendee accounts to seed; every one of them joins the ticket drop
+ * @param rsvps      background RSVPs per attendee, so feed attendee counts are realistic
+ * @param clients    concurrent clients for the timed scenarios
+ * @param duration   measured time per timed scenario
+ * @param warmup     unmeasured browse traffic before the first scenario
+ * @param capacity   seats on the ticket-drop event
+ * @param stampede   concurrent clients racing for those seats
+ * @param seed       random seed, so two runs see the same data and the same request sequence
+ * @param epoch      instant the seeded ids and event times count from; defaults to the start of
+ *                   the current UTC day, so events stay upcoming and runs on one day match
+ */
+public record LoadTestConfig(int organizers, int events, int users, int rsvps, int clients,
+                             Duration duration, Duration warmup, int capacity, int stampede,
+                             long seed, Instant epoch, List<String> scenarios) {
+
+    public static final List<String> ALL_SCENARIOS = List.of("browse", "nearby", "ticket-drop", "check-in");
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator < 1) {
+                throw new IllegalArgumentException("Expected key=value but got '" + arg + "'");
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+
+        LoadTestConfig config = new LoadTestConfig(
+                intValue(values, "organizers", 50),
+                intValue(values, "events", 1_000),
+                intValue(values, "users", 5_000),
+                intValue(values, "rsvps", 3),
+                intValue(values, "clients", 64),
+                Duration.ofSeconds(intValue(values, "duration", 30)),
+                Duration.ofSeconds(intValue(values, "warmup", 10)),
+                intValue(values, "capacity", 1_000),
+                intValue(values, "stampede", 256),
+                Long.parseLong(value(values, "seed", "42")),
+                Instant.parse(value(values, "epoch", Instant.now().truncatedTo(ChronoUnit.DAYS).toString())),
+                Arrays.asList(value(values, "scenarios", String.join(",", ALL_SCENARIOS)).split(",")));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown settings: " + values.keySet());
+        }
+        for (String scenario : config.scenarios()) {
+            if (!ALL_SCENARIOS.contains(scenario)) {
+                throw new IllegalArgumentException("Unknown scenario '" + scenario + "', expected one of " + ALL_SCENARIOS);
+            }
+        }
+        return config;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        return Integer.parseInt(value(values, key, String.valueOf(defaultValue)));
+    }
+
+    private static String value(Map<String, String> values, String key, String defaultValue) {
+        String value = values.remove(key);
+        return value != null ? value : defaultValue;
+    }
+}
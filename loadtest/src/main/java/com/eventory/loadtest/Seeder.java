@@ -0,0 +1,123 @@
+package com.eventory.loadtest;
+
+import com.eventory.model.TimeOrderedUuidGenerator;
+import com.eventory.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bulk-inserts organizers, attendees, events and background RSVPs with batched JDBC, bypassing
+ * the API so seeding does not pay for password hashing or show up in the measurements.
+ *
+ * <p>Ids, QR codes and start times all derive from the seed and a fixed epoch, so the same
+ * settings produce the same rows on every run.
+ */
+class Seeder {
+
+    /** Events cluster around these centres, so nearby searches find a realistic number of them. */
+    static final double[][] CITIES = {
+            {40.7128, -74.0060},  // New York
+            {34.0522, -118.2437}, // Los Angeles
+            {41.8781, -87.6298},  // Chicago
+            {51.5074, -0.1278},   // London
+            {52.5200, 13.4050}    // Berlin
+    };
+    static final String[] CATEGORIES = {"music", "tech", "sports", "food", "art", "networking"};
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbc;
+    private final Random random;
+    private final TimeOrderedUuidGenerator ids;
+    private final LocalDateTime now;
+
+    Seeder(JdbcTemplate jdbc, long seed, Instant epoch) {
+        this.jdbc = jdbc;
+        this.random = new Random(seed);
+        this.ids = new TimeOrderedUuidGenerator(Clock.fixed(epoch, ZoneOffset.UTC), new Random(seed));
+        this.now = LocalDateTime.ofInstant(epoch, ZoneOffset.UTC);
+    }
+
+    Dataset seed(LoadTestConfig config) {
+        List<User> organizers = users(config.organizers(), "organizer", User.Role.ORGANIZER);
+        List<User> attendees = users(config.users(), "attendee", User.Role.ATTENDEE);
+
+        List<UUID> events = new ArrayList<>(config.events());
+        List<Object[]> eventRows = new ArrayList<>(config.events() + 1);
+        for (int i = 0; i < config.events(); i++) {
+            UUID id = ids.next();
+            double[] city = CITIES[i % CITIES.length];
+            LocalDateTime start = now.plusHours(1 + random.nextInt(24 * 60));
+            events.add(id);
+            eventRows.add(eventRow(id, organizers.get(i % organizers.size()).getId(), "Event " + i,
+                    city[0] + random.nextGaussian() * 0.05, city[1] + random.nextGaussian() * 0.05,
+                    start, CATEGORIES[random.nextInt(CATEGORIES.length)], null));
+        }
+
+        // The ticket drop: one event everybody wants, with fewer seats than takers
+        User hotOrganizer = organizers.get(0);
+        UUID hotEvent = ids.next();
+        eventRows.add(eventRow(hotEvent, hotOrganizer.getId(), "Ticket drop", CITIES[0][0], CITIES[0][1],
+                now.plusDays(7), "music", config.capacity()));
+        batchInsert("INSERT INTO events (id, organizer_id, title, latitude, longitude, start_time, end_time, "
+                + "category, max_attendees) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", eventRows);
+
+        List<Object[]> rsvpRows = new ArrayList<>(attendees.size() * config.rsvps());
+        for (User attendee : attendees) {
+            Set<UUID> chosen = new HashSet<>();
+            while (chosen.size() < Math.min(config.rsvps(), events.size())) {
+                chosen.add(events.get(random.nextInt(events.size())));
+            }
+            for (UUID event : chosen) {
+                rsvpRows.add(new Object[] {ids.next(), event, attendee.getId(), "EVENTORY-" + new UUID(random.nextLong(), random.nextLong())});
+            }
+        }
+        batchInsert("INSERT INTO rsvps (id, event_id, user_id, qr_code) VALUES (?, ?, ?, ?)", rsvpRows);
+
+        return new Dataset(organizers, attendees, events, hotEvent, hotOrganizer);
+    }
+
+    private List<User> users(int count, String prefix, User.Role role) {
+        List<User> users = new ArrayList<>(count);
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = User.builder()
+                    .id(ids.next())
+                    .email(prefix + i + "@loadtest.example")
+                    .name(prefix + " " + i)
+                    .role(role)
+                    .build();
+            users.add(user);
+            rows.add(new Object[] {user.getId(), user.getEmail(), "unused", user.getName(), role.name()});
+        }
+        batchInsert("INSERT INTO users (id, email, password_hash, name, role) VALUES (?, ?, ?, ?, ?)", rows);
+        return users;
+    }
+
+    private static Object[] eventRow(UUID id, UUID organizerId, String title, double latitude, double longitude,
+                                     LocalDateTime start, String category, Integer capacity) {
+        return new Object[] {id, organizerId, title, latitude, longitude, Timestamp.valueOf(start),
+                Timestamp.valueOf(start.plusHours(3)), category, capacity};
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    record Dataset(List<User> organizers, List<User> attendees, List<UUID> events,
+                   UUID hotEvent, User hotOrganizer) {
+    }
+}